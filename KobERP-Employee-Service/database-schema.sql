@@ -0,0 +1,150 @@
+-- Create employees table
+CREATE TABLE IF NOT EXISTS employees (
+    id BIGSERIAL PRIMARY KEY,
+    employee_id VARCHAR(50) NOT NULL UNIQUE,
+    employee_code VARCHAR(50),
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    phone VARCHAR(20),
+    birth_date DATE,
+    hire_date DATE,
+    contract_end_date DATE,
+    position VARCHAR(150) NOT NULL,
+    department VARCHAR(100) NOT NULL,
+    salary DECIMAL(12, 2),
+    performance_score DECIMAL(3, 2),
+    address TEXT,
+    emergency_contact_name VARCHAR(150),
+    emergency_contact_phone VARCHAR(20),
+    education_level VARCHAR(100),
+    total_leave_days INTEGER,
+    used_leave_days INTEGER,
+    remaining_leave_days INTEGER GENERATED ALWAYS AS (total_leave_days - used_leave_days) STORED,
+    status VARCHAR(50) DEFAULT 'ACTIVE',
+    avatar_path VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+-- Hibernate allocates ids in blocks of 50 (pooled optimizer) so bulk inserts can be JDBC batched
+ALTER SEQUENCE employees_id_seq INCREMENT BY 50;
+
+-- Change tracking for /employees/changes: every insert/update (including soft deletes and bulk
+-- statements) stamps the writing transaction id, which clients page through with a sync token
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS change_txid BIGINT NOT NULL DEFAULT txid_current();
+
+CREATE OR REPLACE FUNCTION employees_stamp_change_txid() RETURNS trigger AS $$
+BEGIN
+    NEW.change_txid := txid_current();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_employees_change_txid ON employees;
+CREATE TRIGGER trg_employees_change_txid
+    BEFORE INSERT OR UPDATE ON employees
+    FOR EACH ROW EXECUTE FUNCTION employees_stamp_change_txid();
+
+CREATE INDEX IF NOT EXISTS idx_employees_change_txid ON employees(change_txid, id);
+
+-- Notifications raised by the scheduled contract-expiry and leave-balance scan. The unique key
+-- makes rescans idempotent: a contract is reported once per end date, a leave balance once a year.
+-- Notifications go with the employee when it is archived
+CREATE TABLE IF NOT EXISTS employee_notifications (
+    id BIGSERIAL PRIMARY KEY,
+    employee_id BIGINT NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    reference_date DATE NOT NULL,
+    message TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP,
+    CONSTRAINT uk_employee_notifications UNIQUE (employee_id, type, reference_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_employee_notifications_type ON employee_notifications(type, id);
+
+-- Range scans for the notification job, so its cost follows the number of matches
+CREATE INDEX IF NOT EXISTS idx_employees_contract_end_date ON employees(contract_end_date, id)
+    WHERE deleted = false AND contract_end_date IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_employees_remaining_leave_days ON employees(remaining_leave_days, id)
+    WHERE deleted = false AND remaining_leave_days IS NOT NULL;
+
+-- Every read goes through "deleted = false", so the lookup and filter indexes only cover live rows.
+-- Soft deleted employees then cost nothing in these indexes, however many accumulate. Email and
+-- employee code are only unique among live employees, so a deleted employee's values can be reused
+ALTER TABLE employees DROP CONSTRAINT IF EXISTS employees_email_key;
+ALTER TABLE employees DROP CONSTRAINT IF EXISTS employees_employee_code_key;
+DROP INDEX IF EXISTS idx_employees_live_email;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_employees_live_email ON employees(email) WHERE deleted = false;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_employees_live_employee_code ON employees(employee_code) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_employees_live_department ON employees(department, id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_employees_live_position ON employees(position, id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_employees_live_status ON employees(status, id) WHERE deleted = false;
+
+-- Cold storage for employees deleted longer than employee.archival.retention-days. The archival job
+-- moves them here in batches, keeping the hot table and its indexes small. Columns mirror
+-- employees (the generated remaining_leave_days becomes a plain column) plus the archive time
+CREATE TABLE IF NOT EXISTS employees_archive (LIKE employees);
+ALTER TABLE employees_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_employees_archive_id ON employees_archive(id);
+
+-- Soft deletes stamp updated_at, which the archival job uses as the deletion time
+CREATE INDEX IF NOT EXISTS idx_employees_deleted_updated_at ON employees(updated_at, id) WHERE deleted = true;
+
+-- Append-only history of the attributes that drive headcount and payroll. A trigger writes a row in
+-- the writing transaction whenever an employee is inserted or one of these columns changes, so
+-- entity saves, bulk statements and imports are all captured. valid_from is the hire date (or
+-- creation time, if earlier) for the first row and the transaction time for changes; deleted rows
+-- close an employee's history. Not tied to employees by FK so it outlives archival
+CREATE TABLE IF NOT EXISTS employee_history (
+    id BIGSERIAL PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    department VARCHAR(100) NOT NULL,
+    position VARCHAR(150) NOT NULL,
+    status VARCHAR(50),
+    salary DECIMAL(12, 2),
+    deleted BOOLEAN NOT NULL,
+    valid_from TIMESTAMP NOT NULL
+);
+
+-- As-of reads take the latest row per employee with valid_from before the date. The index is in the
+-- exact order of their DISTINCT ON (employee_id ... valid_from DESC, id DESC), so they need no sort
+DROP INDEX IF EXISTS idx_employee_history_employee_valid_from;
+CREATE INDEX IF NOT EXISTS idx_employee_history_employee_latest
+    ON employee_history(employee_id, valid_from DESC, id DESC);
+
+-- Seed history for employees that predate the table
+INSERT INTO employee_history (employee_id, department, position, status, salary, deleted, valid_from)
+SELECT e.id, e.department, e.position, e.status, e.salary, false, LEAST(e.hire_date::timestamp, e.created_at)
+FROM employees e
+WHERE NOT EXISTS (SELECT 1 FROM employee_history h WHERE h.employee_id = e.id);
+
+INSERT INTO employee_history (employee_id, department, position, status, salary, deleted, valid_from)
+SELECT e.id, e.department, e.position, e.status, e.salary, true, e.updated_at
+FROM employees e
+WHERE e.deleted = true
+  AND NOT EXISTS (SELECT 1 FROM employee_history h WHERE h.employee_id = e.id AND h.deleted = true);
+
+CREATE OR REPLACE FUNCTION employees_record_history() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        IF (NEW.department, NEW.position, NEW.status, NEW.salary, NEW.deleted)
+                IS NOT DISTINCT FROM (OLD.department, OLD.position, OLD.status, OLD.salary, OLD.deleted) THEN
+            RETURN NULL;
+        END IF;
+        INSERT INTO employee_history (employee_id, department, position, status, salary, deleted, valid_from)
+        VALUES (NEW.id, NEW.department, NEW.position, NEW.status, NEW.salary, NEW.deleted, LOCALTIMESTAMP);
+    ELSE
+        INSERT INTO employee_history (employee_id, department, position, status, salary, deleted, valid_from)
+        VALUES (NEW.id, NEW.department, NEW.position, NEW.status, NEW.salary, NEW.deleted,
+                LEAST(NEW.hire_date::timestamp, NEW.created_at));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_employees_record_history ON employees;
+CREATE TRIGGER trg_employees_record_history
+    AFTER INSERT OR UPDATE ON employees
+    FOR EACH ROW EXECUTE FUNCTION employees_record_history();
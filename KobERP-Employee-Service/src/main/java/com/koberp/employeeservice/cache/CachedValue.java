@@ -0,0 +1,54 @@
+package com.koberp.employeeservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.function.Supplier;
+
+/**
+ * Value loaded on first read and kept until {@link #invalidate()}. A generation counter stops a
+ * load that overlapped an invalidation from caching its possibly stale result; that caller still
+ * gets the freshly loaded value, the next one reloads.
+ */
+final class CachedValue<T> {
+    
+    private final Supplier<T> loader;
+    private final Counter loads;
+    private long generation;
+    private volatile T cached;
+    
+    CachedValue(Supplier<T> loader, Counter loads) {
+        this.loader = loader;
+        this.loads = loads;
+    }
+    
+    T get() {
+        T current = cached;
+        if (current != null) {
+            return current;
+        }
+        long loadingGeneration;
+        synchronized (this) {
+            loadingGeneration = generation;
+        }
+        T loaded = loader.get();
+        loads.increment();
+        synchronized (this) {
+            if (generation == loadingGeneration) {
+                cached = loaded;
+            }
+        }
+        return loaded;
+    }
+    
+    /**
+     * The cached value, or null when the next {@link #get()} would load.
+     */
+    T peek() {
+        return cached;
+    }
+    
+    synchronized void invalidate() {
+        generation++;
+        cached = null;
+    }
+}
@@ -0,0 +1,261 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.dto.StatsResponse;
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.mapper.StatsMapper;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Incrementally maintained employee counters behind {@code /employees/stats} and
+ * {@code /employees/count}. Seeded once at startup and adjusted from committed
+ * {@link EmployeeChangedEvent}s, so reads never touch the database. A periodic drift check
+ * compares the counters, including the salary and hire-year sums behind the averages, with the
+ * single-pass SQL aggregate and reseeds on any mismatch.
+ * <p>
+ * Events committed while a reseed reads the table may or may not be in its result, so they are
+ * buffered and replayed onto the new tally per employee: an event whose outcome the seed already
+ * saw is skipped instead of being counted twice. Until the swap they keep updating the old tally,
+ * which goes on serving reads.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeCounters {
+    
+    private final EmployeeRepository employeeRepository;
+    private final StatsMapper statsMapper;
+    
+    private Tally tally;
+    // Events received since the running reseed started; null when no reseed is running
+    private List<EmployeeChangedEvent> reseedBuffer;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        synchronized (this) {
+            if (reseedBuffer != null) {
+                return;
+            }
+            reseedBuffer = new ArrayList<>();
+        }
+        long start = System.currentTimeMillis();
+        Tally seeded = new Tally();
+        Map<Long, EmployeeSnapshot> seen = new HashMap<>();
+        try {
+            for (EmployeeSnapshot employee : employeeRepository.findAllSnapshots()) {
+                seeded.add(employee);
+                seen.put(employee.getId(), employee);
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                reseedBuffer = null;
+            }
+            throw e;
+        }
+        int replayed;
+        synchronized (this) {
+            replayed = reseedBuffer.size();
+            for (EmployeeChangedEvent event : reseedBuffer) {
+                replay(seeded, seen, event);
+            }
+            reseedBuffer = null;
+            tally = seeded;
+        }
+        log.info("Employee counters seeded with {} employees ({} events replayed) in {} ms",
+                seeded.total, replayed, System.currentTimeMillis() - start);
+    }
+    
+    @TransactionalEventListener
+    public synchronized void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (reseedBuffer != null) {
+            reseedBuffer.add(event);
+        }
+        if (tally == null) {
+            return;
+        }
+        if (event.getBefore() != null) {
+            tally.remove(event.getBefore());
+        }
+        if (event.getAfter() != null) {
+            tally.add(event.getAfter());
+        }
+    }
+    
+    /**
+     * Moves the employee to the event's outcome in the seeded tally. A no-op when the seed query
+     * already saw that outcome, so replaying an event it included does not count it twice.
+     */
+    private static void replay(Tally seeded, Map<Long, EmployeeSnapshot> seen, EmployeeChangedEvent event) {
+        EmployeeSnapshot current = seen.get(event.getEmployeeId());
+        EmployeeSnapshot after = event.getAfter();
+        if (Objects.equals(current, after)) {
+            return;
+        }
+        if (current != null) {
+            seeded.remove(current);
+        }
+        if (after != null) {
+            seeded.add(after);
+            seen.put(after.getId(), after);
+        } else {
+            seen.remove(event.getEmployeeId());
+        }
+    }
+    
+    @Scheduled(initialDelayString = "${employee.counters.drift-check-interval-ms:300000}",
+               fixedDelayString = "${employee.counters.drift-check-interval-ms:300000}")
+    public void checkDrift() {
+        if (!isSeeded()) {
+            return;
+        }
+        List<Object[]> rows = employeeRepository.getEmployeeStatsRows();
+        StatsResponse expected = statsMapper.toResponse(rows);
+        Object[] totals = rows.stream().filter(row -> ((Number) row[1]).intValue() == 1).findFirst().orElseThrow();
+        boolean drifted;
+        StatsResponse actual;
+        synchronized (this) {
+            actual = toStatsResponse();
+            drifted = !Objects.equals(expected.getTotalEmployees(), actual.getTotalEmployees())
+                    || !Objects.equals(expected.getActiveEmployees(), actual.getActiveEmployees())
+                    || !Objects.equals(expected.getInactiveEmployees(), actual.getInactiveEmployees())
+                    || !Objects.equals(expected.getOnLeaveEmployees(), actual.getOnLeaveEmployees())
+                    || !Objects.equals(expected.getNewHiresThisMonth(), actual.getNewHiresThisMonth())
+                    || !Objects.equals(expected.getDepartmentDistribution(), actual.getDepartmentDistribution())
+                    || tally.salaryCount != ((Number) totals[9]).longValue()
+                    || tally.salarySum.compareTo(toDecimal(totals[10])) != 0
+                    || tally.hiredCount != ((Number) totals[11]).longValue()
+                    || BigDecimal.valueOf(tally.hireYearSum).compareTo(toDecimal(totals[12])) != 0
+                    || expected.getAverageSalary().compareTo(actual.getAverageSalary()) != 0
+                    || Double.compare(expected.getAverageYearsOfService(), actual.getAverageYearsOfService()) != 0;
+        }
+        if (drifted) {
+            log.warn("Employee counters drifted from database (expected {}, actual {}), reseeding", expected, actual);
+            seed();
+        }
+    }
+    
+    private static BigDecimal toDecimal(Object value) {
+        return value != null ? new BigDecimal(value.toString()) : BigDecimal.ZERO;
+    }
+    
+    public synchronized boolean isSeeded() {
+        return tally != null;
+    }
+    
+    public synchronized long getTotal() {
+        return tally.total;
+    }
+    
+    public synchronized StatsResponse toStatsResponse() {
+        LocalDate today = LocalDate.now();
+        BigDecimal avgSalary = tally.salaryCount > 0 ?
+                tally.salarySum.divide(BigDecimal.valueOf(tally.salaryCount), 2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+        return StatsResponse.builder()
+                .totalEmployees(tally.total)
+                .activeEmployees(tally.byStatus.getOrDefault("ACTIVE", 0L))
+                .inactiveEmployees(tally.byStatus.getOrDefault("INACTIVE", 0L))
+                .onLeaveEmployees(tally.byStatus.getOrDefault("ON_LEAVE", 0L))
+                .departmentDistribution(new HashMap<>(tally.byDepartment))
+                .averageSalary(avgSalary)
+                .averageYearsOfService(Math.round(tally.averageYearsOfService(today) * 100.0) / 100.0)
+                .newHiresThisMonth(tally.hiresByMonth.getOrDefault(YearMonth.from(today), 0L))
+                .build();
+    }
+    
+    /**
+     * Not thread safe; always accessed while holding the {@link EmployeeCounters} monitor.
+     */
+    private static final class Tally {
+        
+        // Anniversary slot of a hire date: month * 32 + day, fits in 12 * 32 + 31
+        private static final int ANNIVERSARY_SLOTS = 12 * 32 + 32;
+        
+        private long total;
+        private final Map<String, Long> byStatus = new HashMap<>();
+        private final Map<String, Long> byDepartment = new HashMap<>();
+        private BigDecimal salarySum = BigDecimal.ZERO;
+        private long salaryCount;
+        private final Map<YearMonth, Long> hiresByMonth = new HashMap<>();
+        private long hiredCount;
+        private long hireYearSum;
+        // Fenwick tree over anniversary slots so "hired later in the year than today" is O(log 416)
+        private final long[] anniversaries = new long[ANNIVERSARY_SLOTS + 1];
+        
+        void add(EmployeeSnapshot employee) {
+            apply(employee, 1);
+        }
+        
+        void remove(EmployeeSnapshot employee) {
+            apply(employee, -1);
+        }
+        
+        private void apply(EmployeeSnapshot employee, int sign) {
+            total += sign;
+            adjust(byStatus, employee.getStatus(), sign);
+            adjust(byDepartment, employee.getDepartmentId(), sign);
+            if (employee.getSalary() != null) {
+                salarySum = sign > 0 ? salarySum.add(employee.getSalary()) : salarySum.subtract(employee.getSalary());
+                salaryCount += sign;
+            }
+            LocalDate hireDate = employee.getHireDate();
+            if (hireDate != null) {
+                adjust(hiresByMonth, YearMonth.from(hireDate), sign);
+                hiredCount += sign;
+                hireYearSum += (long) sign * hireDate.getYear();
+                for (int i = anniversarySlot(hireDate); i <= ANNIVERSARY_SLOTS; i += i & -i) {
+                    anniversaries[i] += sign;
+                }
+            }
+        }
+        
+        /**
+         * Average of whole years between hire date and today, matching
+         * {@code EXTRACT(YEAR FROM age(CURRENT_DATE, hire_date))}: the year difference minus one
+         * for every employee whose anniversary has not been reached yet this year.
+         */
+        double averageYearsOfService(LocalDate today) {
+            if (hiredCount == 0) {
+                return 0.0;
+            }
+            long reached = 0;
+            for (int i = anniversarySlot(today); i > 0; i -= i & -i) {
+                reached += anniversaries[i];
+            }
+            long notYetReached = hiredCount - reached;
+            return (double) (hiredCount * today.getYear() - hireYearSum - notYetReached) / hiredCount;
+        }
+        
+        private static int anniversarySlot(LocalDate date) {
+            return date.getMonthValue() * 32 + date.getDayOfMonth();
+        }
+        
+        private static <K> void adjust(Map<K, Long> counts, K key, int sign) {
+            if (key == null) {
+                return;
+            }
+            long updated = counts.getOrDefault(key, 0L) + sign;
+            if (updated == 0) {
+                counts.remove(key);
+            } else {
+                counts.put(key, updated);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Distinct department and position lists behind {@code /employees/departments} and
+ * {@code /employees/positions}. Each list is loaded on first use and kept until a committed change
+ * could alter it: a new value on create, a moved employee on update, or any delete. Status and
+ * other field edits leave both lists cached.
+ */
+@Component
+public class EmployeeDictionaries {
+    
+    private final CachedValue<Dictionary> departments;
+    private final CachedValue<Dictionary> positions;
+    
+    public EmployeeDictionaries(EmployeeRepository employeeRepository, MeterRegistry meterRegistry) {
+        this.departments = new CachedValue<>(() -> new Dictionary(employeeRepository.findAllDepartmentIds()),
+                loadCounter("departments", meterRegistry));
+        this.positions = new CachedValue<>(() -> new Dictionary(employeeRepository.findAllPositions()),
+                loadCounter("positions", meterRegistry));
+    }
+    
+    public Dictionary getDepartments() {
+        return departments.get();
+    }
+    
+    public Dictionary getPositions() {
+        return positions.get();
+    }
+    
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidateIfAffected(departments, event, EmployeeSnapshot::getDepartmentId);
+        invalidateIfAffected(positions, event, EmployeeSnapshot::getPosition);
+    }
+    
+    private static Counter loadCounter(String dictionary, MeterRegistry meterRegistry) {
+        return Counter.builder("employee.dictionary.loads")
+                .tag("dictionary", dictionary)
+                .description("Times a dictionary was reloaded from the database")
+                .register(meterRegistry);
+    }
+    
+    private static void invalidateIfAffected(CachedValue<Dictionary> slot, EmployeeChangedEvent event,
+                                             Function<EmployeeSnapshot, String> attribute) {
+        String after = event.getAfter() != null ? attribute.apply(event.getAfter()) : null;
+        if (event.isCreate()) {
+            // Only a value nobody had before changes the list
+            Dictionary current = slot.peek();
+            if (current == null || !current.contains(after)) {
+                slot.invalidate();
+            }
+        } else if (event.isDelete() || !Objects.equals(attribute.apply(event.getBefore()), after)) {
+            // The employee may have been the last one holding the old value
+            slot.invalidate();
+        }
+    }
+    
+    /**
+     * Immutable list of distinct values with a strong ETag derived from its content, so the tag is
+     * stable across restarts and instances serving the same data.
+     */
+    @Getter
+    public static final class Dictionary {
+        
+        private final List<String> values;
+        private final String etag;
+        @Getter(AccessLevel.NONE)
+        private final Set<String> lookup;
+        
+        private Dictionary(List<String> values) {
+            this.values = List.copyOf(values);
+            this.etag = etagOf(this.values);
+            this.lookup = new HashSet<>(this.values);
+        }
+        
+        boolean contains(String value) {
+            return lookup.contains(value);
+        }
+        
+        private static String etagOf(List<String> values) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (String value : values) {
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                }
+                return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.koberp.employeeservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.koberp.employeeservice.dto.EmployeeResponse;
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Mapped {@link EmployeeResponse}s behind {@code GET /employees/{id}}, bounded by size and age.
+ * Entries are dropped once a write to the employee commits. Loads run atomically per id and an
+ * invalidation waits for an in-flight load of the same id, so a load that read the row before the
+ * commit can never be left in the cache afterwards. The age limit only bounds how stale the
+ * date-derived fields (age, years of service) can get.
+ * <p>
+ * Cached responses are shared between requests and must not be modified.
+ */
+@Component
+public class EmployeeResponseCache {
+    
+    private final Cache<Long, EmployeeResponse> responses;
+    
+    public EmployeeResponseCache(MeterRegistry meterRegistry,
+                                 @Value("${employee.response-cache.maximum-size:10000}") long maximumSize,
+                                 @Value("${employee.response-cache.expire-after-write-ms:600000}") long expireAfterWriteMs) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "employeeResponses");
+        Gauge.builder("employee.response.cache.hit.ratio", responses, cache -> cache.stats().hitRate())
+                .description("Share of employee reads served without a database query")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Returns the cached response, loading it when absent. Returns null, caching nothing, when the
+     * loader finds no employee.
+     */
+    public EmployeeResponse get(Long id, Function<Long, EmployeeResponse> loader) {
+        return responses.get(id, loader);
+    }
+    
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        responses.invalidate(event.getEmployeeId());
+    }
+}
@@ -0,0 +1,212 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.dto.EmployeeSuggestionResponse;
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over employee names, codes and emails backing {@code /employees/suggest}.
+ * Terms are kept in a sorted skip list keyed by {@code term + '\0' + id}, so a prefix lookup is a
+ * single {@code subMap} range scan that stops after {@code limit} distinct employees.
+ * <p>
+ * A load builds a fresh index and swaps it in. Events committed while it reads the table keep
+ * updating the live index and are also buffered, then replayed onto the new one in commit order,
+ * so an update or delete that lands during the load is never lost or undone by the older row.
+ */
+@Component
+@Slf4j
+public class EmployeeSuggestIndex {
+    
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final char RANGE_END = '\uffff';
+    
+    // Rough per-object costs on a 64-bit JVM with compressed oops, used for the footprint gauge
+    private static final long STRING_OVERHEAD_BYTES = 56;
+    private static final long TERM_NODE_OVERHEAD_BYTES = 48;
+    private static final long ENTRY_OVERHEAD_BYTES = 120;
+    
+    private final EmployeeRepository employeeRepository;
+    
+    private volatile Index index = new Index();
+    // Events received since the running load started; null when no load is running
+    private List<EmployeeChangedEvent> loadBuffer;
+    
+    public EmployeeSuggestIndex(EmployeeRepository employeeRepository, MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        Gauge.builder("employee.suggest.index.memory", this, i -> i.index.estimatedBytes)
+                .description("Estimated heap used by the employee suggest index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("employee.suggest.index.entries", this, i -> i.index.entries.size())
+                .description("Employees held in the suggest index")
+                .register(meterRegistry);
+        Gauge.builder("employee.suggest.index.terms", this, i -> i.index.terms.size())
+                .description("Prefix terms held in the suggest index")
+                .register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (this) {
+            if (loadBuffer != null) {
+                return;
+            }
+            loadBuffer = new ArrayList<>();
+        }
+        long start = System.currentTimeMillis();
+        Index loaded = new Index();
+        try {
+            employeeRepository.findAllSnapshots().forEach(loaded::put);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loadBuffer = null;
+            }
+            throw e;
+        }
+        int replayed;
+        synchronized (this) {
+            replayed = loadBuffer.size();
+            for (EmployeeChangedEvent event : loadBuffer) {
+                loaded.apply(event);
+            }
+            loadBuffer = null;
+            index = loaded;
+        }
+        log.info("Employee suggest index loaded {} employees ({} terms, {} events replayed) in {} ms",
+                loaded.entries.size(), loaded.terms.size(), replayed, System.currentTimeMillis() - start);
+    }
+    
+    @TransactionalEventListener
+    public synchronized void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (loadBuffer != null) {
+            loadBuffer.add(event);
+        }
+        index.apply(event);
+    }
+    
+    public List<EmployeeSuggestionResponse> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Index current = index;
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : current.terms.subMap(prefix, true, prefix + RANGE_END, false).values()) {
+            if (ids.add(id) && ids.size() >= limit) {
+                break;
+            }
+        }
+        List<EmployeeSuggestionResponse> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            IndexedEmployee indexed = current.entries.get(id);
+            if (indexed != null) {
+                result.add(indexed.response());
+            }
+        }
+        return result;
+    }
+    
+    public int size() {
+        return index.entries.size();
+    }
+    
+    private static void addTerm(Set<String> target, String value, Long id) {
+        String term = normalize(value);
+        if (!term.isEmpty()) {
+            target.add(term + ID_SEPARATOR + id);
+        }
+    }
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    private static long stringBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + value.length();
+    }
+    
+    /**
+     * Concurrent maps so {@link #suggest} can read without locking; writes happen while holding
+     * the {@link EmployeeSuggestIndex} monitor, or before the index is published.
+     */
+    private static final class Index {
+        
+        private final NavigableMap<String, Long> terms = new ConcurrentSkipListMap<>();
+        private final Map<Long, IndexedEmployee> entries = new ConcurrentHashMap<>();
+        private volatile long estimatedBytes;
+        
+        void apply(EmployeeChangedEvent event) {
+            if (event.isDelete()) {
+                remove(event.getEmployeeId());
+            } else {
+                put(event.getAfter());
+            }
+        }
+        
+        void put(EmployeeSnapshot snapshot) {
+            remove(snapshot.getId());
+            EmployeeSuggestionResponse response = EmployeeSuggestionResponse.builder()
+                    .id(snapshot.getId())
+                    .employeeCode(snapshot.getEmployeeCode())
+                    .fullName(snapshot.getFirstName() + " " + snapshot.getLastName())
+                    .email(snapshot.getEmail())
+                    .departmentId(snapshot.getDepartmentId())
+                    .position(snapshot.getPosition())
+                    .status(snapshot.getStatus())
+                    .build();
+            Set<String> keys = new LinkedHashSet<>();
+            addTerm(keys, response.getFullName(), response.getId());
+            addTerm(keys, snapshot.getLastName(), response.getId());
+            addTerm(keys, response.getEmail(), response.getId());
+            addTerm(keys, response.getEmployeeCode(), response.getId());
+            
+            IndexedEmployee indexed = new IndexedEmployee(response, keys.toArray(String[]::new));
+            entries.put(response.getId(), indexed);
+            for (String key : indexed.terms()) {
+                terms.put(key, response.getId());
+            }
+            estimatedBytes += indexed.estimateBytes();
+        }
+        
+        void remove(Long id) {
+            IndexedEmployee indexed = entries.remove(id);
+            if (indexed == null) {
+                return;
+            }
+            for (String key : indexed.terms()) {
+                terms.remove(key);
+            }
+            estimatedBytes -= indexed.estimateBytes();
+        }
+    }
+    
+    private record IndexedEmployee(EmployeeSuggestionResponse response, String[] terms) {
+        
+        long estimateBytes() {
+            long bytes = ENTRY_OVERHEAD_BYTES + stringBytes(response.getFullName())
+                    + stringBytes(response.getEmail()) + stringBytes(response.getEmployeeCode());
+            for (String term : terms) {
+                bytes += TERM_NODE_OVERHEAD_BYTES + stringBytes(term);
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Bloom filter over the email and employee code of every live employee, the values the partial
+ * unique indexes reserve. Keys of employees deleted since the last load stay set and only cost a
+ * false positive. A negative answer proves the value is free and lets callers skip
+ * the {@code exists} query; a positive answer must still be confirmed against the database, and the
+ * unique constraints remain the final arbiter for races.
+ * <p>
+ * Values are added when the write is published rather than after commit, so a concurrent request
+ * can never see a negative for a value that is about to commit. Rolled back writes leave a few
+ * extra bits set, which only costs an occasional false positive.
+ */
+@Component
+@Slf4j
+public class EmployeeUniquenessFilter {
+    
+    private static final String EMAIL_PREFIX = "e:";
+    private static final String CODE_PREFIX = "c:";
+    
+    private final EmployeeRepository employeeRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+    
+    private volatile BloomFilter filter;
+    // Receives concurrent writes while a rebuild is loading, so nothing is lost on swap
+    private volatile BloomFilter rebuilding;
+    
+    public EmployeeUniquenessFilter(EmployeeRepository employeeRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${employee.uniqueness-filter.expected-insertions:100000}") long expectedInsertions,
+                                    @Value("${employee.uniqueness-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.employeeRepository = employeeRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.negatives = Counter.builder("employee.uniqueness.filter.lookups")
+                .tag("result", "negative")
+                .description("Uniqueness checks answered by the Bloom filter without a query")
+                .register(meterRegistry);
+        this.positives = Counter.builder("employee.uniqueness.filter.lookups")
+                .tag("result", "positive")
+                .description("Uniqueness checks that had to be confirmed against the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("employee.uniqueness.filter.false.positives")
+                .description("Positive filter answers the database did not confirm")
+                .register(meterRegistry);
+        Gauge.builder("employee.uniqueness.filter.memory", this, f -> f.filter != null ? f.filter.memoryBytes() : 0)
+                .description("Heap used by the uniqueness Bloom filter bit array")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("employee.uniqueness.filter.expected.fpp", this,
+                        f -> f.filter != null ? f.filter.expectedFalsePositiveRate() : 1.0)
+                .description("False positive probability implied by the current fill ratio")
+                .register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        BloomFilter previous = filter;
+        // Two keys per row with 2x headroom for growth
+        long rows = employeeRepository.countAllIncludingDeleted();
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, rows * 4), falsePositiveRate);
+        rebuilding = next;
+        List<Object[]> keys = employeeRepository.findAllUniqueKeys();
+        for (Object[] key : keys) {
+            put(next, (String) key[0], (String) key[1]);
+        }
+        filter = next;
+        rebuilding = null;
+        log.info("Employee uniqueness filter {} with {} employees ({} bytes) in {} ms",
+                previous == null ? "built" : "rebuilt", keys.size(), next.memoryBytes(),
+                System.currentTimeMillis() - start);
+    }
+    
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeSnapshot after = event.getAfter();
+        if (after == null) {
+            return;
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            put(current, after.getEmail(), after.getEmployeeCode());
+        }
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            put(next, after.getEmail(), after.getEmployeeCode());
+        }
+    }
+    
+    // Keys are never removed, so the filter degrades as the table grows past its sizing
+    @Scheduled(fixedDelayString = "${employee.uniqueness-filter.resize-check-interval-ms:600000}")
+    public void resizeIfSaturated() {
+        BloomFilter current = filter;
+        if (current != null && current.expectedFalsePositiveRate() > falsePositiveRate * 2) {
+            log.info("Employee uniqueness filter saturated (expected fpp {}), rebuilding",
+                    current.expectedFalsePositiveRate());
+            load();
+        }
+    }
+    
+    public boolean mightContainEmail(String email) {
+        return mightContain(EMAIL_PREFIX + email);
+    }
+    
+    public boolean mightContainEmployeeCode(String employeeCode) {
+        return mightContain(CODE_PREFIX + employeeCode);
+    }
+    
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+    
+    private boolean mightContain(String key) {
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(key)) {
+            positives.increment();
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+    
+    private static void put(BloomFilter target, String email, String employeeCode) {
+        if (email != null) {
+            target.put(EMAIL_PREFIX + email);
+        }
+        if (employeeCode != null) {
+            target.put(CODE_PREFIX + employeeCode);
+        }
+    }
+}
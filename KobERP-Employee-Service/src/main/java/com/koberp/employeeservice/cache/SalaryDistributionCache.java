@@ -0,0 +1,58 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.dto.SalaryDistributionResponse;
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.mapper.StatsMapper;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * Salary percentiles behind {@code /employees/stats/salaries}. Computed with one ordered-set
+ * aggregate query on first use and kept until a committed write touches a salary or moves a salaried
+ * employee between departments or positions; status and other edits keep it cached.
+ */
+@Component
+public class SalaryDistributionCache {
+    
+    private final CachedValue<SalaryDistributionResponse> distribution;
+    
+    public SalaryDistributionCache(EmployeeRepository employeeRepository, StatsMapper statsMapper,
+                                   MeterRegistry meterRegistry) {
+        this.distribution = new CachedValue<>(
+                () -> statsMapper.toSalaryDistribution(employeeRepository.getSalaryDistributionRows()),
+                Counter.builder("employee.salary.distribution.loads")
+                        .description("Times the salary distribution was recomputed from the database")
+                        .register(meterRegistry));
+    }
+    
+    public SalaryDistributionResponse get() {
+        return distribution.get();
+    }
+    
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (affectsSalaries(event.getBefore(), event.getAfter())) {
+            distribution.invalidate();
+        }
+    }
+    
+    private static boolean affectsSalaries(EmployeeSnapshot before, EmployeeSnapshot after) {
+        boolean salariedBefore = before != null && before.getSalary() != null;
+        boolean salariedAfter = after != null && after.getSalary() != null;
+        if (!salariedBefore && !salariedAfter) {
+            return false;
+        }
+        if (salariedBefore != salariedAfter) {
+            return true;
+        }
+        return before.getSalary().compareTo(after.getSalary()) != 0
+                || !Objects.equals(before.getDepartmentId(), after.getDepartmentId())
+                || !Objects.equals(before.getPosition(), after.getPosition());
+    }
+}
@@ -0,0 +1,30 @@
+package com.koberp.employeeservice.config;
+
+import com.koberp.employeeservice.idgen.EmployeeIdGenerator;
+import com.koberp.employeeservice.idgen.SnowflakeEmployeeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+    
+    /**
+     * Default generator. Ids are only unique across instances when every instance has its own
+     * {@code employee.id-generator.node-id}, so there is no derived fallback: a host name hash can
+     * give two instances the same node id, and startup fails instead when it is not set.
+     */
+    @Bean
+    @ConditionalOnMissingBean(EmployeeIdGenerator.class)
+    public EmployeeIdGenerator employeeIdGenerator(@Value("${employee.id-generator.node-id:#{null}}") Long nodeId) {
+        if (nodeId == null) {
+            throw new IllegalStateException("employee.id-generator.node-id is not set; give every instance a unique " +
+                    "value between 0 and " + SnowflakeEmployeeIdGenerator.MAX_NODE_ID);
+        }
+        log.info("Employee id generator using node id {}", nodeId);
+        return new SnowflakeEmployeeIdGenerator(nodeId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.koberp.employeeservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Drift checks, notification scans, archival and the other @Scheduled jobs
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,9 +1,32 @@
 package com.koberp.employeeservice.controller;
 
+import com.koberp.employeeservice.cache.EmployeeDictionaries;
+import com.koberp.employeeservice.dto.BulkCreateResponse;
+import com.koberp.employeeservice.dto.BulkEmployeeRequest;
+import com.koberp.employeeservice.dto.BulkUpdateResponse;
+import com.koberp.employeeservice.dto.EmployeeChangesResponse;
+import com.koberp.employeeservice.dto.EmployeeHistoryEntry;
+import com.koberp.employeeservice.dto.EmployeeImportResponse;
+import com.koberp.employeeservice.dto.EmployeeLookupRequest;
+import com.koberp.employeeservice.dto.EmployeeLookupResponse;
+import com.koberp.employeeservice.dto.EmployeeNotificationResponse;
 import com.koberp.employeeservice.dto.EmployeeRequest;
 import com.koberp.employeeservice.dto.EmployeeResponse;
+import com.koberp.employeeservice.dto.EmployeeSuggestionResponse;
+import com.koberp.employeeservice.dto.HeadcountSeriesResponse;
+import com.koberp.employeeservice.dto.OrgSnapshotResponse;
+import com.koberp.employeeservice.dto.SalaryDistributionResponse;
 import com.koberp.employeeservice.dto.StatsResponse;
 import com.koberp.employeeservice.dto.StatusUpdateRequest;
+import com.koberp.employeeservice.model.enums.EmployeeStatus;
+import com.koberp.employeeservice.projection.EmployeeProjection;
+import com.koberp.employeeservice.repository.EmployeeProjectionRepository.Filter;
+import com.koberp.employeeservice.service.EmployeeAnalyticsService;
+import com.koberp.employeeservice.service.EmployeeBulkService;
+import com.koberp.employeeservice.service.EmployeeExportService;
+import com.koberp.employeeservice.service.EmployeeHistoryService;
+import com.koberp.employeeservice.service.EmployeeImportService;
+import com.koberp.employeeservice.service.EmployeeNotificationService;
 import com.koberp.employeeservice.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,14 +36,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/employees")
@@ -32,30 +68,119 @@ import java.util.List;
 public class EmployeeController {
     
     private final EmployeeService employeeService;
+    private final EmployeeBulkService employeeBulkService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeAnalyticsService employeeAnalyticsService;
+    private final EmployeeNotificationService employeeNotificationService;
+    private final EmployeeHistoryService employeeHistoryService;
+    
+    @Value("${employee.export.timeout-ms:3600000}")
+    private long exportTimeoutMs;
     
     @GetMapping
-    @Operation(summary = "Get all employees", description = "Retrieve a list of all employees in the system")
+    @Operation(summary = "Get all employees", description = "Retrieve a list of all employees in the system. Pass fields to return only those fields; only the needed columns are selected")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved employees",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmployeeResponse.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token", content = @Content)
     })
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<?> getAllEmployees(
+            @Parameter(description = "Comma separated EmployeeResponse fields to return (id is always included); all fields when omitted", example = "firstName,lastName,departmentId,status")
+            @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(employeeService.getAllEmployees());
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesProjected(Filter.ALL, null, fields));
+    }
+    
+    @GetMapping("/changes")
+    @Operation(summary = "Get employee changes", description = "Incremental sync: employees created, updated or deleted since the given token. " +
+            "Omit the token for the initial full sync, then keep passing back nextToken; call again immediately while hasMore is true")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmployeeChangesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid sync token", content = @Content)
+    })
+    public ResponseEntity<EmployeeChangesResponse> getEmployeeChanges(
+            @Parameter(description = "Sync token returned by the previous call")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes per page (1-5000)", example = "500")
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(employeeService.getChanges(since, Math.max(1, Math.min(limit, 5000))));
+    }
+    
+    @GetMapping("/notifications")
+    @Operation(summary = "Get employee notifications",
+               description = "Contract expiry and leave balance notifications raised by the daily scan, oldest first. " +
+                             "Pass the last id seen as afterId to fetch the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Notifications retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown notification type", content = @Content)
+    })
+    public ResponseEntity<List<EmployeeNotificationResponse>> getNotifications(
+            @Parameter(description = "CONTRACT_EXPIRING, LEAVE_OVERDRAWN or LEAVE_UNUSED")
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Return notifications with a greater id", example = "0")
+            @RequestParam(defaultValue = "0") long afterId,
+            @Parameter(description = "Maximum number of notifications per page (1-1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(employeeNotificationService.getNotifications(type, afterId, Math.max(1, Math.min(limit, 1000))));
+    }
+    
+    @GetMapping("/as-of")
+    @Operation(summary = "Get employees as of a date",
+               description = "Department, position, status and salary of every employee at the end of the given day, from the change history")
+    @ApiResponse(responseCode = "200", description = "Successfully reconstructed employees")
+    public ResponseEntity<List<EmployeeHistoryEntry>> getEmployeesAsOf(
+            @Parameter(description = "Day to reconstruct", required = true, example = "2023-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Only employees in this department at the time")
+            @RequestParam(required = false) String department) {
+        return ResponseEntity.ok(employeeHistoryService.getEmployeesAsOf(date, department));
+    }
+    
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Get employee history", description = "Department, position, status and salary changes of an employee, oldest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved history"),
+        @ApiResponse(responseCode = "404", description = "No history for this employee", content = @Content)
+    })
+    public ResponseEntity<List<EmployeeHistoryEntry>> getEmployeeHistory(
+            @Parameter(description = "Employee ID", required = true, example = "1")
+            @PathVariable Long id) {
+        return ResponseEntity.ok(employeeHistoryService.getHistory(id));
+    }
+    
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up employees by IDs or codes",
+               description = "Resolve many employees in one query, optionally with sparse fields. " +
+                             "IDs and codes that match no employee are returned in missingIds and missingCodes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Employees resolved successfully"),
+        @ApiResponse(responseCode = "400", description = "No ids or codes given, too many keys or unknown field", content = @Content)
+    })
+    public ResponseEntity<EmployeeLookupResponse> lookupEmployees(@Valid @RequestBody EmployeeLookupRequest request) {
+        return ResponseEntity.ok(employeeService.lookupEmployees(request));
     }
     
     @GetMapping("/{id}")
-    @Operation(summary = "Get employee by ID", description = "Retrieve a specific employee by their ID")
+    @Operation(summary = "Get employee by ID", description = "Retrieve a specific employee by their ID. Pass fields to return only those fields; only the needed columns are selected")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved employee",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmployeeResponse.class))),
         @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
-    public ResponseEntity<EmployeeResponse> getEmployeeById(
+    public ResponseEntity<?> getEmployeeById(
             @Parameter(description = "Employee ID", required = true, example = "1") 
-            @PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+            @PathVariable Long id,
+            @Parameter(description = "Comma separated EmployeeResponse fields to return (id is always included); all fields when omitted", example = "firstName,lastName,departmentId,status")
+            @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(employeeService.getEmployeeById(id));
+        }
+        return ResponseEntity.ok(employeeService.getEmployeeByIdProjected(id, fields));
     }
     
     @PostMapping
@@ -104,39 +229,117 @@ public class EmployeeController {
     }
     
     @GetMapping("/search")
-    @Operation(summary = "Search employees", description = "Search employees by name, email, department, or position")
+    @Operation(summary = "Search employees", description = "Search employees by name, email, department, or position. Pass fields to return only those fields; only the needed columns are selected")
     @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
-    public ResponseEntity<List<EmployeeResponse>> searchEmployees(
+    public ResponseEntity<?> searchEmployees(
             @Parameter(description = "Search query", required = true, example = "john")
-            @RequestParam String q) {
-        return ResponseEntity.ok(employeeService.searchEmployees(q));
+            @RequestParam String q,
+            @Parameter(description = "Comma separated EmployeeResponse fields to return (id is always included); all fields when omitted", example = "firstName,lastName,departmentId,status")
+            @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(employeeService.searchEmployees(q));
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesProjected(Filter.SEARCH, q, fields));
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "Export employees",
+               description = "Stream all employees matching the optional filters as CSV or newline delimited JSON. " +
+                             "Rows are read through a database cursor and written as they arrive")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Unknown format or field", content = @Content)
+    })
+    public WebAsyncTask<Void> exportEmployees(
+            @Parameter(description = "csv or ndjson", example = "csv")
+            @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Department filter", example = "Engineering")
+            @RequestParam(required = false) String department,
+            @Parameter(description = "Position filter", example = "Software Engineer")
+            @RequestParam(required = false) String position,
+            @Parameter(description = "Status filter", example = "ACTIVE")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Search query over name, email, position and code", example = "john")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Comma separated fields to export (all fields when omitted)", example = "employeeCode,fullName,salary")
+            @RequestParam(required = false) String fields,
+            HttpServletResponse response) {
+        EmployeeExportService.Format exportFormat = EmployeeExportService.Format.of(format);
+        EmployeeProjection projection = employeeExportService.projection(fields);
+        Map<Filter, Object> filters = new EnumMap<>(Filter.class);
+        if (department != null) {
+            filters.put(Filter.DEPARTMENT, department);
+        }
+        if (position != null) {
+            filters.put(Filter.POSITION, position);
+        }
+        if (status != null) {
+            filters.put(Filter.STATUS, status);
+        }
+        if (q != null) {
+            filters.put(Filter.SEARCH, q);
+        }
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(exportFormat.getFileName()).build().toString());
+        // Written from the async executor with its own timeout; other async endpoints keep the default
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            employeeExportService.export(exportFormat, projection, filters, response.getOutputStream());
+            return null;
+        });
+    }
+    
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest employees", description = "Prefix autocomplete over employee names, codes and emails served from an in-memory index")
+    @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully")
+    public ResponseEntity<List<EmployeeSuggestionResponse>> suggestEmployees(
+            @Parameter(description = "Prefix typed by the user", required = true, example = "jo")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions (1-50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(employeeService.suggestEmployees(q, Math.max(1, Math.min(limit, 50))));
     }
     
     @GetMapping("/department/{departmentId}")
-    @Operation(summary = "Get employees by department", description = "Retrieve all employees in a specific department")
+    @Operation(summary = "Get employees by department", description = "Retrieve all employees in a specific department. Pass fields to return only those fields; only the needed columns are selected")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved employees")
-    public ResponseEntity<List<EmployeeResponse>> getEmployeesByDepartment(
+    public ResponseEntity<?> getEmployeesByDepartment(
             @Parameter(description = "Department ID", required = true, example = "Engineering")
-            @PathVariable String departmentId) {
-        return ResponseEntity.ok(employeeService.getEmployeesByDepartment(departmentId));
+            @PathVariable String departmentId,
+            @Parameter(description = "Comma separated EmployeeResponse fields to return (id is always included); all fields when omitted", example = "firstName,lastName,departmentId,status")
+            @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(employeeService.getEmployeesByDepartment(departmentId));
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesProjected(Filter.DEPARTMENT, departmentId, fields));
     }
     
     @GetMapping("/position/{position}")
-    @Operation(summary = "Get employees by position", description = "Retrieve all employees with a specific position")
+    @Operation(summary = "Get employees by position", description = "Retrieve all employees with a specific position. Pass fields to return only those fields; only the needed columns are selected")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved employees")
-    public ResponseEntity<List<EmployeeResponse>> getEmployeesByPosition(
+    public ResponseEntity<?> getEmployeesByPosition(
             @Parameter(description = "Position title", required = true, example = "Software Engineer")
-            @PathVariable String position) {
-        return ResponseEntity.ok(employeeService.getEmployeesByPosition(position));
+            @PathVariable String position,
+            @Parameter(description = "Comma separated EmployeeResponse fields to return (id is always included); all fields when omitted", example = "firstName,lastName,departmentId,status")
+            @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(employeeService.getEmployeesByPosition(position));
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesProjected(Filter.POSITION, position, fields));
     }
     
     @GetMapping("/status/{status}")
-    @Operation(summary = "Get employees by status", description = "Retrieve all employees with a specific status")
+    @Operation(summary = "Get employees by status", description = "Retrieve all employees with a specific status. Pass fields to return only those fields; only the needed columns are selected")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved employees")
-    public ResponseEntity<List<EmployeeResponse>> getEmployeesByStatus(
+    public ResponseEntity<?> getEmployeesByStatus(
             @Parameter(description = "Employee status", required = true, example = "ACTIVE")
-            @PathVariable String status) {
-        return ResponseEntity.ok(employeeService.getEmployeesByStatus(status));
+            @PathVariable String status,
+            @Parameter(description = "Comma separated EmployeeResponse fields to return (id is always included); all fields when omitted", example = "firstName,lastName,departmentId,status")
+            @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(employeeService.getEmployeesByStatus(status));
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesProjected(Filter.STATUS, status, fields));
     }
     
     @GetMapping("/stats")
@@ -147,6 +350,43 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.getEmployeeStats());
     }
     
+    @GetMapping("/stats/salaries")
+    @Operation(summary = "Get salary distribution",
+               description = "Count, min, p10, median, p90, max and average salary overall, per department and per position. " +
+                             "Cached until a salary, department or position changes")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved salary distribution")
+    public ResponseEntity<SalaryDistributionResponse> getSalaryDistribution() {
+        return ResponseEntity.ok(employeeService.getSalaryDistribution());
+    }
+    
+    @GetMapping("/stats/headcount")
+    @Operation(summary = "Get headcount time series",
+               description = "Hires, exits and closing headcount per period between from and to, widened to whole periods")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved headcount series"),
+        @ApiResponse(responseCode = "400", description = "Invalid range or granularity", content = @Content)
+    })
+    public ResponseEntity<HeadcountSeriesResponse> getHeadcountSeries(
+            @Parameter(description = "First day of the range", required = true, example = "2022-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the range", required = true, example = "2024-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "day, week, month, quarter or year", example = "month")
+            @RequestParam(defaultValue = "month") String granularity) {
+        return ResponseEntity.ok(employeeAnalyticsService.getHeadcountSeries(from, to,
+                EmployeeAnalyticsService.Granularity.of(granularity)));
+    }
+    
+    @GetMapping("/stats/as-of")
+    @Operation(summary = "Get headcount and payroll as of a date",
+               description = "Headcount, active headcount and payroll overall and per department at the end of the given day")
+    @ApiResponse(responseCode = "200", description = "Successfully computed snapshot")
+    public ResponseEntity<OrgSnapshotResponse> getOrgSnapshot(
+            @Parameter(description = "Day to reconstruct", required = true, example = "2023-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(employeeHistoryService.getOrgSnapshot(date));
+    }
+    
     @GetMapping("/count")
     @Operation(summary = "Get employee count", description = "Get the total number of active employees")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved count")
@@ -156,16 +396,22 @@ public class EmployeeController {
     
     @GetMapping("/departments")
     @Operation(summary = "Get all departments", description = "Retrieve a list of all unique departments")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved departments")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved departments"),
+        @ApiResponse(responseCode = "304", description = "Departments unchanged since the ETag in If-None-Match", content = @Content)
+    })
     public ResponseEntity<List<String>> getAllDepartments() {
-        return ResponseEntity.ok(employeeService.getAllDepartments());
+        return toConditionalResponse(employeeService.getAllDepartments());
     }
     
     @GetMapping("/positions")
     @Operation(summary = "Get all positions", description = "Retrieve a list of all unique positions")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved positions")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved positions"),
+        @ApiResponse(responseCode = "304", description = "Positions unchanged since the ETag in If-None-Match", content = @Content)
+    })
     public ResponseEntity<List<String>> getAllPositions() {
-        return ResponseEntity.ok(employeeService.getAllPositions());
+        return toConditionalResponse(employeeService.getAllPositions());
     }
     
     @PatchMapping("/{id}/status")
@@ -197,18 +443,102 @@ public class EmployeeController {
     }
     
     @PostMapping("/bulk")
-    @Operation(summary = "Create bulk employees", description = "Create multiple employee records at once")
-    @ApiResponse(responseCode = "201", description = "Employees created successfully")
-    public ResponseEntity<List<EmployeeResponse>> createBulkEmployees(
-            @Valid @RequestBody List<EmployeeRequest> requests) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(employeeService.createBulkEmployees(requests));
+    @Operation(summary = "Create bulk employees", description = "Create multiple employee records at once. " +
+            "Rows are validated and inserted independently; the response reports the outcome of every row")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All employees created successfully"),
+        @ApiResponse(responseCode = "207", description = "Some rows failed, see the per-row results")
+    })
+    public ResponseEntity<BulkCreateResponse> createBulkEmployees(@RequestBody List<EmployeeRequest> requests) {
+        BulkCreateResponse response = employeeBulkService.createBulkEmployees(requests);
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+    
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import employees from a spreadsheet",
+               description = "Upload a CSV or XLSX file with a header row of EmployeeRequest field names. The file is streamed " +
+                             "and written in batches in the background; poll the returned import for progress")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import queued"),
+        @ApiResponse(responseCode = "400", description = "Missing or unsupported file", content = @Content),
+        @ApiResponse(responseCode = "503", description = "Too many imports in progress", content = @Content)
+    })
+    public ResponseEntity<EmployeeImportResponse> importEmployees(
+            @Parameter(description = "CSV or XLSX file", required = true)
+            @RequestParam("file") MultipartFile file) {
+        EmployeeImportResponse response = employeeImportService.startImport(file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/employees/import/" + response.getId()))
+                .body(response);
+    }
+    
+    @GetMapping("/import/{importId}")
+    @Operation(summary = "Get import progress", description = "Rows processed, created and failed so far, with the first failed rows")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import progress retrieved"),
+        @ApiResponse(responseCode = "404", description = "Import not found", content = @Content)
+    })
+    public ResponseEntity<EmployeeImportResponse> getImport(
+            @Parameter(description = "Import ID", required = true)
+            @PathVariable String importId) {
+        return ResponseEntity.ok(employeeImportService.getImport(importId));
     }
     
     @DeleteMapping("/bulk")
     @Operation(summary = "Delete bulk employees", description = "Delete multiple employees at once (soft delete)")
-    @ApiResponse(responseCode = "204", description = "Employees deleted successfully")
-    public ResponseEntity<Void> deleteBulkEmployees(@RequestBody List<Long> ids) {
-        employeeService.deleteBulkEmployees(ids);
-        return ResponseEntity.noContent().build();
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Employees deleted successfully"),
+        @ApiResponse(responseCode = "204", description = "Empty id list, nothing to delete", content = @Content)
+    })
+    public ResponseEntity<BulkUpdateResponse> deleteBulkEmployees(@RequestBody List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        BulkEmployeeRequest filter = new BulkEmployeeRequest();
+        filter.setIds(ids);
+        return ResponseEntity.ok(employeeBulkService.deleteEmployees(filter));
+    }
+    
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "Delete employees by filter", description = "Soft delete all employees matching the given ids, department, position and/or current status in a single statement")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Employees deleted successfully"),
+        @ApiResponse(responseCode = "400", description = "No filter criteria given", content = @Content)
+    })
+    public ResponseEntity<BulkUpdateResponse> deleteEmployeesByFilter(@Valid @RequestBody BulkEmployeeRequest request) {
+        return ResponseEntity.ok(employeeBulkService.deleteEmployees(request));
+    }
+    
+    @PatchMapping("/bulk/status")
+    @Operation(summary = "Update status of employees", description = "Set the status of all employees matching the given ids, department, position and/or current status in a single statement")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Missing or unknown status, or no filter criteria", content = @Content)
+    })
+    public ResponseEntity<BulkUpdateResponse> updateBulkEmployeeStatus(@Valid @RequestBody BulkEmployeeRequest request) {
+        return ResponseEntity.ok(employeeBulkService.updateStatus(request, EmployeeStatus.of(request.getStatus())));
+    }
+    
+    @PatchMapping("/bulk/activate")
+    @Operation(summary = "Activate employees", description = "Activate all employees matching the given filter")
+    @ApiResponse(responseCode = "200", description = "Employees activated successfully")
+    public ResponseEntity<BulkUpdateResponse> activateBulkEmployees(@Valid @RequestBody BulkEmployeeRequest request) {
+        return ResponseEntity.ok(employeeBulkService.updateStatus(request, EmployeeStatus.ACTIVE));
+    }
+    
+    @PatchMapping("/bulk/deactivate")
+    @Operation(summary = "Deactivate employees", description = "Deactivate all employees matching the given filter")
+    @ApiResponse(responseCode = "200", description = "Employees deactivated successfully")
+    public ResponseEntity<BulkUpdateResponse> deactivateBulkEmployees(@Valid @RequestBody BulkEmployeeRequest request) {
+        return ResponseEntity.ok(employeeBulkService.updateStatus(request, EmployeeStatus.INACTIVE));
+    }
+    
+    // Spring answers a matching If-None-Match with 304 and no body before serializing
+    private ResponseEntity<List<String>> toConditionalResponse(EmployeeDictionaries.Dictionary dictionary) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(dictionary.getEtag())
+                .body(dictionary.getValues());
     }
 }
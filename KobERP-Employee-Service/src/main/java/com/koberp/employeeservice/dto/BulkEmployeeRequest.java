@@ -0,0 +1,38 @@
+package com.koberp.employeeservice.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Selects the employees a bulk action applies to. All given criteria are combined with AND and at
+ * least one of them is required.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEmployeeRequest {
+    
+    private List<Long> ids;
+    
+    @Size(max = 100)
+    private String departmentId;
+    
+    @Size(max = 150)
+    private String position;
+    
+    // One of EmployeeStatus, matched ignoring case
+    @Size(max = 50)
+    private String currentStatus;
+    
+    // Target status, one of EmployeeStatus; only used by the bulk status endpoint
+    @Size(max = 50)
+    private String status;
+    
+    public boolean hasCriteria() {
+        return (ids != null && !ids.isEmpty()) || departmentId != null || position != null || currentStatus != null;
+    }
+}
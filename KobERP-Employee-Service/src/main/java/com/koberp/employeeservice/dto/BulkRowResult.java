@@ -0,0 +1,27 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRowResult {
+    
+    private int index;
+    private boolean success;
+    private Long id;
+    private String employeeCode;
+    private String error;
+    
+    public static BulkRowResult success(int index, Long id, String employeeCode) {
+        return new BulkRowResult(index, true, id, employeeCode, null);
+    }
+    
+    public static BulkRowResult failure(int index, String error) {
+        return new BulkRowResult(index, false, null, null, error);
+    }
+}
@@ -0,0 +1,20 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangesResponse {
+    
+    private List<EmployeeResponse> changed;
+    private List<Long> deletedIds;
+    private String nextToken;
+    private boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistoryEntry {
+    
+    private Long employeeId;
+    private String departmentId;
+    private String position;
+    private String status;
+    private BigDecimal salary;
+    private boolean deleted;
+    private LocalDateTime validFrom;
+}
@@ -0,0 +1,31 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportResponse {
+    
+    private String id;
+    private String fileName;
+    private String format;
+    private String status;
+    private String message;
+    private long processed;
+    private long created;
+    private long failed;
+    // Failed rows by spreadsheet row number, capped at employee.import.max-reported-errors
+    private List<BulkRowResult> errors;
+    private boolean errorsTruncated;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,26 @@
+package com.koberp.employeeservice.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Employees to resolve in one call, by id and/or employee code. At least one key is required.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeLookupRequest {
+    
+    @Size(max = 5000)
+    private List<Long> ids;
+    
+    @Size(max = 5000)
+    private List<String> codes;
+    
+    // Optional comma separated sparse fieldset, as for the fields= parameter
+    private String fields;
+}
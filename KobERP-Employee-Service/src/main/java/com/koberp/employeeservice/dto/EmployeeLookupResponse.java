@@ -0,0 +1,20 @@
+package com.koberp.employeeservice.dto;
+
+import com.koberp.employeeservice.projection.ProjectedEmployees;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeLookupResponse {
+    
+    private ProjectedEmployees employees;
+    private List<Long> missingIds;
+    private List<String> missingCodes;
+}
@@ -0,0 +1,23 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeNotificationResponse {
+    
+    private Long id;
+    private Long employeeId;
+    private String type;
+    private LocalDate referenceDate;
+    private String message;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSuggestionResponse {
+    
+    private Long id;
+    private String employeeCode;
+    private String fullName;
+    private String email;
+    private String departmentId;
+    private String position;
+    private String status;
+}
@@ -0,0 +1,22 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountPoint {
+    
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private long hires;
+    private long exits;
+    // Employed at the end of the period, after its hires and exits
+    private long headcount;
+}
@@ -0,0 +1,23 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountSeriesResponse {
+    
+    private LocalDate from;
+    private LocalDate to;
+    private String granularity;
+    // Employed just before the first period starts
+    private long openingHeadcount;
+    private List<HeadcountPoint> points;
+}
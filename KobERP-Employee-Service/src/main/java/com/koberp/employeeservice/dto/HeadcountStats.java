@@ -0,0 +1,21 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountStats {
+    
+    // Employees not INACTIVE
+    private long headcount;
+    private long activeHeadcount;
+    // Sum of salaries over the headcount
+    private BigDecimal payroll;
+}
@@ -0,0 +1,21 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgSnapshotResponse {
+    
+    // State at the end of this day
+    private LocalDate asOf;
+    private HeadcountStats overall;
+    private Map<String, HeadcountStats> byDepartment;
+}
@@ -0,0 +1,21 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryDistributionResponse {
+    
+    private SalaryStats overall;
+    private Map<String, SalaryStats> byDepartment;
+    private Map<String, SalaryStats> byPosition;
+    private LocalDateTime computedAt;
+}
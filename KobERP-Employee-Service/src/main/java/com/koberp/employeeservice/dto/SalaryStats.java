@@ -0,0 +1,23 @@
+package com.koberp.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryStats {
+    
+    private long count;
+    private BigDecimal min;
+    private BigDecimal p10;
+    private BigDecimal median;
+    private BigDecimal p90;
+    private BigDecimal max;
+    private BigDecimal average;
+}
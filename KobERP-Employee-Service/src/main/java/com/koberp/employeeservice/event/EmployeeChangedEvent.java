@@ -0,0 +1,39 @@
+package com.koberp.employeeservice.event;
+
+import lombok.Value;
+
+/**
+ * Published by {@code EmployeeService} for every employee write. {@code before} is null for
+ * creates and {@code after} is null for deletes. Listeners that maintain in-memory state should
+ * consume it with {@code @TransactionalEventListener} so rolled back writes are never applied.
+ */
+@Value
+public class EmployeeChangedEvent {
+    
+    EmployeeSnapshot before;
+    EmployeeSnapshot after;
+    
+    public static EmployeeChangedEvent created(EmployeeSnapshot after) {
+        return new EmployeeChangedEvent(null, after);
+    }
+    
+    public static EmployeeChangedEvent updated(EmployeeSnapshot before, EmployeeSnapshot after) {
+        return new EmployeeChangedEvent(before, after);
+    }
+    
+    public static EmployeeChangedEvent deleted(EmployeeSnapshot before) {
+        return new EmployeeChangedEvent(before, null);
+    }
+    
+    public Long getEmployeeId() {
+        return after != null ? after.getId() : before.getId();
+    }
+    
+    public boolean isCreate() {
+        return before == null;
+    }
+    
+    public boolean isDelete() {
+        return after == null;
+    }
+}
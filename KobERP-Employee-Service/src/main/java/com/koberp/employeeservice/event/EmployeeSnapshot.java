@@ -0,0 +1,42 @@
+package com.koberp.employeeservice.event;
+
+import com.koberp.employeeservice.model.Employee;
+import lombok.Value;
+import lombok.With;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of the employee columns that in-memory read models depend on.
+ */
+@Value
+@With
+public class EmployeeSnapshot {
+    
+    Long id;
+    String employeeCode;
+    String firstName;
+    String lastName;
+    String email;
+    String departmentId;
+    String position;
+    String status;
+    BigDecimal salary;
+    LocalDate hireDate;
+    
+    public static EmployeeSnapshot of(Employee employee) {
+        return new EmployeeSnapshot(
+                employee.getId(),
+                employee.getEmployeeCode(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmail(),
+                employee.getDepartmentId(),
+                employee.getPosition(),
+                employee.getStatus(),
+                employee.getSalary(),
+                employee.getHireDate()
+        );
+    }
+}
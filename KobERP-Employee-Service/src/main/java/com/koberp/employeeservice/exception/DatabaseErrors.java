@@ -0,0 +1,27 @@
+package com.koberp.employeeservice.exception;
+
+import java.sql.SQLException;
+
+/**
+ * Classifies database failures for client-facing messages. Driver messages name tables,
+ * constraints and the offending values, so they are logged but never returned.
+ */
+public final class DatabaseErrors {
+    
+    public static final String DUPLICATE_EMPLOYEE_MESSAGE = "An employee with the same email or employee code already exists";
+    
+    // PostgreSQL unique_violation
+    private static final String UNIQUE_VIOLATION = "23505";
+    
+    private DatabaseErrors() {
+    }
+    
+    public static boolean isUniqueViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
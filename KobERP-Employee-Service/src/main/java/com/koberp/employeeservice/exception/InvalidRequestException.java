@@ -0,0 +1,11 @@
+package com.koberp.employeeservice.exception;
+
+/**
+ * A request parameter or body value the service cannot act on. Mapped to 400 with its message,
+ * so the message must be written for the client.
+ */
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.koberp.employeeservice.idgen;
+
+/**
+ * Source of the business identifiers ({@code employee_id}, {@code employee_code}) assigned to new
+ * employees. Implementations must be thread safe and unique across all running instances.
+ */
+public interface EmployeeIdGenerator {
+    
+    /**
+     * Returns a new positive identifier. Values handed out later compare greater, so generated
+     * codes sort by creation time.
+     */
+    long nextId();
+    
+    default String formatEmployeeId(long id) {
+        return "EID" + pad(id);
+    }
+    
+    default String formatEmployeeCode(long id) {
+        return "EMP" + pad(id);
+    }
+    
+    // Fixed width so the string form sorts the same way as the number
+    private static String pad(long id) {
+        String digits = Long.toString(id);
+        return "0".repeat(Math.max(0, 19 - digits.length())) + digits;
+    }
+}
@@ -0,0 +1,65 @@
+package com.koberp.employeeservice.idgen;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time ordered 63-bit ids: 41 bits of milliseconds since {@link #EPOCH}, 10 bits of node id and a
+ * 12 bit per-millisecond sequence. The last issued (timestamp, sequence) pair lives in a single
+ * {@link AtomicLong} and is advanced with CAS, so generation never blocks. When the sequence of a
+ * millisecond is exhausted, or the wall clock moves backwards, the generator borrows the next
+ * millisecond instead of spinning; ids stay unique and increasing and the logical clock catches up
+ * with the wall clock as soon as the burst ends.
+ */
+public class SnowflakeEmployeeIdGenerator implements EmployeeIdGenerator {
+    
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH = 1704067200000L;
+    
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+    
+    public SnowflakeEmployeeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+    
+    public SnowflakeEmployeeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+    
+    @Override
+    public long nextId() {
+        while (true) {
+            long now = clock.getAsLong() - EPOCH;
+            long last = state.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((last & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = last + 1;
+            } else {
+                next = (lastTimestamp + 1) << SEQUENCE_BITS;
+            }
+            if (state.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+    
+    public long getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.koberp.employeeservice.importer;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * RFC 4180 CSV in UTF-8 (a leading byte order mark, as written by Excel, is skipped). The parser
+ * pulls records lazily from a buffered reader, so memory use does not depend on the file size.
+ * Blank lines are passed through as rows so row numbers match the file.
+ */
+public class CsvRowReader implements SpreadsheetRowReader {
+    
+    private static final CSVFormat FORMAT = CSVFormat.RFC4180.builder()
+            .setIgnoreEmptyLines(false)
+            .setTrim(true)
+            .build();
+    
+    @Override
+    public void read(Path file, Consumer<List<String>> rows) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            skipByteOrderMark(reader);
+            CSVParser parser = FORMAT.parse(reader);
+            for (CSVRecord record : parser) {
+                List<String> values = new ArrayList<>(record.size());
+                record.forEach(values::add);
+                rows.accept(values);
+            }
+        }
+    }
+    
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+}
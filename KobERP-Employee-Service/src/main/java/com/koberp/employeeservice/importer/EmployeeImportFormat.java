@@ -0,0 +1,32 @@
+package com.koberp.employeeservice.importer;
+
+import com.koberp.employeeservice.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+public enum EmployeeImportFormat {
+    
+    CSV(new CsvRowReader()),
+    XLSX(new XlsxRowReader());
+    
+    private final SpreadsheetRowReader reader;
+    
+    EmployeeImportFormat(SpreadsheetRowReader reader) {
+        this.reader = reader;
+    }
+    
+    public SpreadsheetRowReader getReader() {
+        return reader;
+    }
+    
+    public static EmployeeImportFormat fromFileName(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".xlsx")) {
+            return XLSX;
+        }
+        throw new InvalidRequestException("Unsupported import file '" + fileName + "', expected .csv or .xlsx");
+    }
+}
@@ -0,0 +1,109 @@
+package com.koberp.employeeservice.importer;
+
+import com.koberp.employeeservice.dto.BulkRowResult;
+import com.koberp.employeeservice.dto.EmployeeImportResponse;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one running import. Written only by the import worker and read by status polls, so
+ * counters are atomic and state fields volatile. Only the first {@code maxErrors} failed rows are
+ * kept, keeping memory constant however many rows fail.
+ */
+public class EmployeeImportJob {
+    
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+    
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    private final String fileName;
+    private final EmployeeImportFormat format;
+    private final int maxErrors;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<BulkRowResult> errors = new ArrayList<>();
+    
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    @Getter
+    private volatile LocalDateTime finishedAt;
+    
+    public EmployeeImportJob(String fileName, EmployeeImportFormat format, int maxErrors) {
+        this.fileName = fileName;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+    
+    public void start() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+    
+    public void record(BulkRowResult[] results, int count) {
+        for (int i = 0; i < count; i++) {
+            BulkRowResult result = results[i];
+            if (result.isSuccess()) {
+                created.incrementAndGet();
+            } else {
+                failed.incrementAndGet();
+                synchronized (errors) {
+                    if (errors.size() < maxErrors) {
+                        errors.add(result);
+                    }
+                }
+            }
+        }
+        processed.addAndGet(count);
+    }
+    
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+    
+    public void fail(String reason) {
+        message = reason;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+    
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+    
+    public EmployeeImportResponse toResponse() {
+        List<BulkRowResult> errorSnapshot;
+        synchronized (errors) {
+            errorSnapshot = List.copyOf(errors);
+        }
+        long failedRows = failed.get();
+        return EmployeeImportResponse.builder()
+                .id(id)
+                .fileName(fileName)
+                .format(format.name())
+                .status(status.name())
+                .message(message)
+                .processed(processed.get())
+                .created(created.get())
+                .failed(failedRows)
+                .errors(errorSnapshot)
+                .errorsTruncated(failedRows > errorSnapshot.size())
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
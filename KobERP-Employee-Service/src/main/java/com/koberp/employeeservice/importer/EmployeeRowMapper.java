@@ -0,0 +1,129 @@
+package com.koberp.employeeservice.importer;
+
+import com.koberp.employeeservice.dto.EmployeeRequest;
+import com.koberp.employeeservice.exception.InvalidRequestException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Maps spreadsheet rows onto {@link EmployeeRequest}s by header name. Headers are matched against
+ * the request property names ignoring case, spaces, underscores and dashes, so {@code firstName},
+ * {@code First Name} and {@code first_name} all work. Values are only converted here; constraint
+ * checks are left to the request's bean validation like any other create.
+ */
+public class EmployeeRowMapper {
+    
+    private static final Map<String, Column> COLUMNS = new HashMap<>();
+    
+    static {
+        text("employeeCode", EmployeeRequest::setEmployeeCode);
+        text("firstName", EmployeeRequest::setFirstName);
+        text("lastName", EmployeeRequest::setLastName);
+        text("email", EmployeeRequest::setEmail);
+        text("phone", EmployeeRequest::setPhone);
+        date("birthDate", EmployeeRequest::setBirthDate);
+        date("hireDate", EmployeeRequest::setHireDate);
+        date("contractEndDate", EmployeeRequest::setContractEndDate);
+        text("position", EmployeeRequest::setPosition);
+        text("departmentId", EmployeeRequest::setDepartmentId);
+        COLUMNS.put(normalize("department"), COLUMNS.get(normalize("departmentId")));
+        decimal("salary", EmployeeRequest::setSalary);
+        decimal("performanceScore", EmployeeRequest::setPerformanceScore);
+        text("address", EmployeeRequest::setAddress);
+        text("emergencyContactName", EmployeeRequest::setEmergencyContactName);
+        text("emergencyContactPhone", EmployeeRequest::setEmergencyContactPhone);
+        text("educationLevel", EmployeeRequest::setEducationLevel);
+        integer("totalLeaveDays", EmployeeRequest::setTotalLeaveDays);
+        integer("usedLeaveDays", EmployeeRequest::setUsedLeaveDays);
+        integer("remainingLeaveDays", EmployeeRequest::setRemainingLeaveDays);
+        text("status", EmployeeRequest::setStatus);
+    }
+    
+    // Indexed by column position; null for blank header cells
+    private final List<Column> columns;
+    
+    public EmployeeRowMapper(List<String> header) {
+        List<Column> resolved = new ArrayList<>(header.size());
+        List<String> unknown = new ArrayList<>();
+        for (String name : header) {
+            if (name == null || name.isBlank()) {
+                resolved.add(null);
+                continue;
+            }
+            Column column = COLUMNS.get(normalize(name));
+            if (column == null) {
+                unknown.add(name);
+            }
+            resolved.add(column);
+        }
+        if (!unknown.isEmpty()) {
+            throw new InvalidRequestException("Unknown import columns: " + String.join(", ", unknown));
+        }
+        this.columns = resolved;
+    }
+    
+    public static boolean isBlank(List<String> row) {
+        return row.stream().allMatch(value -> value == null || value.isBlank());
+    }
+    
+    /**
+     * @throws InvalidRequestException naming the column when a value cannot be converted
+     */
+    public EmployeeRequest map(List<String> row) {
+        EmployeeRequest request = new EmployeeRequest();
+        for (int i = 0; i < Math.min(row.size(), columns.size()); i++) {
+            Column column = columns.get(i);
+            String value = row.get(i);
+            if (column != null && value != null && !value.isEmpty()) {
+                column.apply(request, value);
+            }
+        }
+        return request;
+    }
+    
+    private static String normalize(String header) {
+        return header.replaceAll("[\\s_\\-]", "").toLowerCase(Locale.ROOT);
+    }
+    
+    private static void text(String property, BiConsumer<EmployeeRequest, String> setter) {
+        register(property, Function.identity(), setter);
+    }
+    
+    private static void date(String property, BiConsumer<EmployeeRequest, LocalDate> setter) {
+        register(property, LocalDate::parse, setter);
+    }
+    
+    private static void decimal(String property, BiConsumer<EmployeeRequest, BigDecimal> setter) {
+        register(property, BigDecimal::new, setter);
+    }
+    
+    private static void integer(String property, BiConsumer<EmployeeRequest, Integer> setter) {
+        register(property, Integer::valueOf, setter);
+    }
+    
+    private static <T> void register(String property, Function<String, T> parser, BiConsumer<EmployeeRequest, T> setter) {
+        COLUMNS.put(normalize(property), (request, value) -> {
+            T parsed;
+            try {
+                parsed = parser.apply(value);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new InvalidRequestException(property + ": invalid value '" + value + "'");
+            }
+            setter.accept(request, parsed);
+        });
+    }
+    
+    @FunctionalInterface
+    private interface Column {
+        void apply(EmployeeRequest request, String value);
+    }
+}
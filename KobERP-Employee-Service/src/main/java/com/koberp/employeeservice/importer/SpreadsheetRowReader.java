@@ -0,0 +1,16 @@
+package com.koberp.employeeservice.importer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams the rows of a spreadsheet file to a consumer one at a time, header row first, without
+ * ever holding more than the current row in memory. Missing trailing or interior cells are
+ * reported as empty strings so every row lines up with the header.
+ */
+public interface SpreadsheetRowReader {
+    
+    void read(Path file, Consumer<List<String>> rows) throws IOException;
+}
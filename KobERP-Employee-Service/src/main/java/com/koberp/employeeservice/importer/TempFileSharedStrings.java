@@ -0,0 +1,192 @@
+package com.koberp.employeeservice.importer;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shared strings table of an .xlsx package spilled to a temp file. POI's
+ * {@code ReadOnlySharedStringsTable} keeps every string on the heap, and a workbook of unique
+ * values (names, emails, codes) stores most of its text there, so a large upload would need heap
+ * in proportion to the file. Here the strings are written to disk as UTF-8 while the part is
+ * parsed, and only their offsets stay in memory (8 bytes per string). Lookups read through a small
+ * window, which suits the mostly ascending order in which sheets reference their strings.
+ * <p>
+ * Phonetic runs are left out, so a cell reads as its displayed text.
+ */
+final class TempFileSharedStrings extends DefaultHandler implements SharedStrings, Closeable {
+    
+    private static final int WINDOW_SIZE = 64 * 1024;
+    
+    private final Path file;
+    private long[] offsets = new long[1024];
+    private int uniqueCount;
+    private int count;
+    private FileChannel channel;
+    private final ByteBuffer window = ByteBuffer.allocate(WINDOW_SIZE);
+    private long windowStart = -1;
+    
+    // Parser state, only used while loading
+    private OutputStream out;
+    private long written;
+    private final StringBuilder characters = new StringBuilder();
+    private boolean inText;
+    private boolean inPhoneticRun;
+    
+    TempFileSharedStrings(OPCPackage pkg) throws IOException, SAXException, ParserConfigurationException {
+        file = Files.createTempFile("employee-import-strings-", ".bin");
+        try {
+            try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(file))) {
+                out = stream;
+                List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+                if (!parts.isEmpty()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(this);
+                    try (InputStream part = parts.get(0).getInputStream()) {
+                        parser.parse(new InputSource(part));
+                    }
+                }
+            } finally {
+                out = null;
+            }
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException | SAXException | ParserConfigurationException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+    
+    @Override
+    public RichTextString getItemAt(int idx) {
+        if (idx < 0 || idx >= uniqueCount) {
+            throw new IndexOutOfBoundsException("Shared string " + idx + " of " + uniqueCount);
+        }
+        long start = offsets[idx];
+        int length = (int) (offsets[idx + 1] - start);
+        try {
+            return new XSSFRichTextString(new String(read(start, length), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read shared string " + idx, e);
+        }
+    }
+    
+    @Override
+    public int getCount() {
+        return count;
+    }
+    
+    @Override
+    public int getUniqueCount() {
+        return uniqueCount;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case "sst" -> {
+                String total = attributes.getValue("count");
+                count = total != null ? Integer.parseInt(total) : 0;
+            }
+            case "si" -> characters.setLength(0);
+            case "t" -> inText = true;
+            case "rPh" -> inPhoneticRun = true;
+            default -> {
+            }
+        }
+    }
+    
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        switch (localName) {
+            case "si" -> append(characters.toString());
+            case "t" -> inText = false;
+            case "rPh" -> inPhoneticRun = false;
+            default -> {
+            }
+        }
+    }
+    
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (inText && !inPhoneticRun) {
+            characters.append(ch, start, length);
+        }
+    }
+    
+    private void append(String value) throws SAXException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new SAXException("Could not spill shared strings to " + file, e);
+        }
+        if (uniqueCount + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        offsets[uniqueCount] = written;
+        written += bytes.length;
+        offsets[++uniqueCount] = written;
+    }
+    
+    private byte[] read(long start, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        if (length > WINDOW_SIZE) {
+            readFully(ByteBuffer.wrap(bytes), start);
+            return bytes;
+        }
+        if (windowStart < 0 || start < windowStart || start + length > windowStart + window.limit()) {
+            window.clear();
+            readFully(window, start);
+            window.flip();
+            windowStart = start;
+        }
+        window.get((int) (start - windowStart), bytes);
+        return bytes;
+    }
+    
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return;
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.koberp.employeeservice.importer;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * First worksheet of an .xlsx workbook, read with POI's SAX event API instead of building the
+ * whole workbook object model. The sheet XML is streamed row by row and the shared strings table
+ * is spilled to a temp file ({@link TempFileSharedStrings}), leaving an 8-byte offset per string
+ * on the heap.
+ * <p>
+ * Cell display formats are ignored: date cells are reported as ISO dates and numbers as plain
+ * decimals, so a salary formatted as currency or a phone number stored as a number parse the
+ * same way as in a CSV file.
+ */
+public class XlsxRowReader implements SpreadsheetRowReader {
+    
+    @Override
+    public void read(Path file, Consumer<List<String>> rows) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (TempFileSharedStrings strings = new TempFileSharedStrings(pkg);
+                 InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), strings,
+                        new RowCollector(rows), new RawValueFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Invalid XLSX file: " + e.getMessage(), e);
+        }
+    }
+    
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        
+        private final Consumer<List<String>> rows;
+        private List<String> current;
+        private int nextRow;
+        
+        RowCollector(Consumer<List<String>> rows) {
+            this.rows = rows;
+        }
+        
+        @Override
+        public void startRow(int rowNum) {
+            // Rows with no cells are omitted from the sheet XML; keep numbering aligned with the file
+            for (; nextRow < rowNum; nextRow++) {
+                rows.accept(List.of());
+            }
+            current = new ArrayList<>();
+        }
+        
+        @Override
+        public void endRow(int rowNum) {
+            rows.accept(current);
+            nextRow = rowNum + 1;
+        }
+        
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : current.size();
+            while (current.size() < column) {
+                current.add("");
+            }
+            current.add(formattedValue != null ? formattedValue.trim() : "");
+        }
+    }
+    
+    private static final class RawValueFormatter extends DataFormatter {
+        
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+}
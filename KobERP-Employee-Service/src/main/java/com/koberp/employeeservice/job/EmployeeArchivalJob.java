@@ -0,0 +1,49 @@
+package com.koberp.employeeservice.job;
+
+import com.koberp.employeeservice.repository.EmployeeArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Nightly move of employees soft deleted more than {@code employee.archival.retention-days} ago
+ * into the archive table. Soft deleted rows are never read again but would otherwise stay in the
+ * hot table and its employee_id index forever. Batches are small, separately committed statements,
+ * so the job never holds many row locks or one long transaction.
+ * <p>
+ * Archived rows no longer appear in {@code /employees/changes}: clients that have not synced for
+ * longer than the retention period must do a full resync to notice those deletions.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeArchivalJob {
+    
+    private final EmployeeArchiveRepository archiveRepository;
+    
+    @Value("${employee.archival.retention-days:365}")
+    private int retentionDays;
+    
+    @Value("${employee.archival.batch-size:1000}")
+    private int batchSize;
+    
+    @Scheduled(cron = "${employee.archival.cron:0 30 3 * * *}")
+    public void archive() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long archived = 0;
+        int moved;
+        do {
+            moved = archiveRepository.archiveDeletedBefore(cutoff, batchSize);
+            archived += moved;
+        } while (moved == batchSize);
+        if (archived > 0) {
+            log.info("Archived {} employees deleted before {} in {} ms", archived, cutoff,
+                    System.currentTimeMillis() - start);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.koberp.employeeservice.job;
+
+import com.koberp.employeeservice.model.enums.NotificationType;
+import com.koberp.employeeservice.repository.EmployeeNotificationRepository;
+import com.koberp.employeeservice.repository.EmployeeNotificationRepository.Candidate;
+import com.koberp.employeeservice.repository.EmployeeNotificationRepository.NewNotification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Daily scan for contracts about to expire and leave balances outside the configured thresholds.
+ * Every lookup is a keyset-paged range scan over a partial index, so the job reads only matching
+ * rows. Notifications are de-duplicated by the table's unique key, which makes reruns and
+ * concurrent runs on several instances harmless.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeNotificationJob {
+    
+    private final EmployeeNotificationRepository notificationRepository;
+    
+    @Value("${employee.notifications.contract-expiry-days:30}")
+    private int contractExpiryDays;
+    
+    @Value("${employee.notifications.leave-min-remaining:0}")
+    private int leaveMinRemaining;
+    
+    @Value("${employee.notifications.leave-max-remaining:20}")
+    private int leaveMaxRemaining;
+    
+    @Value("${employee.notifications.chunk-size:500}")
+    private int chunkSize;
+    
+    @Scheduled(cron = "${employee.notifications.scan-cron:0 0 6 * * *}")
+    public void scan() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        int contracts = scanContracts(today);
+        // Leave balances are reported at most once per employee and year
+        LocalDate leaveYear = today.withDayOfYear(1);
+        int overdrawn = scanLeave(NotificationType.LEAVE_OVERDRAWN, Integer.MIN_VALUE, leaveMinRemaining - 1, leaveYear,
+                c -> c.fullName() + " has " + c.remainingLeaveDays() + " leave days remaining, below the minimum of " +
+                        leaveMinRemaining);
+        int unused = scanLeave(NotificationType.LEAVE_UNUSED, leaveMaxRemaining + 1, Integer.MAX_VALUE, leaveYear,
+                c -> c.fullName() + " has " + c.remainingLeaveDays() + " unused leave days");
+        log.info("Employee notification scan raised {} contract expiry, {} overdrawn leave and {} unused leave " +
+                "notifications in {} ms", contracts, overdrawn, unused, System.currentTimeMillis() - start);
+    }
+    
+    private int scanContracts(LocalDate today) {
+        LocalDate until = today.plusDays(contractExpiryDays);
+        int raised = 0;
+        LocalDate afterDate = today.minusDays(1);
+        long afterId = Long.MAX_VALUE;
+        List<Candidate> chunk;
+        do {
+            chunk = notificationRepository.findContractsEndingBetween(today, until, afterDate, afterId, chunkSize);
+            raised += notificationRepository.insert(chunk.stream()
+                    .map(c -> new NewNotification(c.employeeId(), NotificationType.CONTRACT_EXPIRING, c.contractEndDate(),
+                            "Contract of " + c.fullName() + " ends on " + c.contractEndDate() + " (in " +
+                            ChronoUnit.DAYS.between(today, c.contractEndDate()) + " days)"))
+                    .toList());
+            if (!chunk.isEmpty()) {
+                Candidate last = chunk.get(chunk.size() - 1);
+                afterDate = last.contractEndDate();
+                afterId = last.employeeId();
+            }
+        } while (chunk.size() == chunkSize);
+        return raised;
+    }
+    
+    private int scanLeave(NotificationType type, int min, int max, LocalDate referenceDate,
+                          Function<Candidate, String> message) {
+        int raised = 0;
+        int afterDays = min;
+        long afterId = -1;
+        List<Candidate> chunk;
+        do {
+            chunk = notificationRepository.findRemainingLeaveBetween(min, max, afterDays, afterId, chunkSize);
+            raised += notificationRepository.insert(chunk.stream()
+                    .map(c -> new NewNotification(c.employeeId(), type, referenceDate, message.apply(c)))
+                    .toList());
+            if (!chunk.isEmpty()) {
+                Candidate last = chunk.get(chunk.size() - 1);
+                afterDays = last.remainingLeaveDays();
+                afterId = last.employeeId();
+            }
+        } while (chunk.size() == chunkSize);
+        return raised;
+    }
+}
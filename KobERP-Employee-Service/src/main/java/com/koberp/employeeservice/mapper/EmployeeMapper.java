@@ -2,15 +2,26 @@ package com.koberp.employeeservice.mapper;
 
 import com.koberp.employeeservice.dto.EmployeeRequest;
 import com.koberp.employeeservice.dto.EmployeeResponse;
+import com.koberp.employeeservice.idgen.EmployeeIdGenerator;
 import com.koberp.employeeservice.model.Employee;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class EmployeeMapper {
     
+    private final EmployeeIdGenerator employeeIdGenerator;
+    
     public Employee toEntity(EmployeeRequest request) {
         Employee employee = new Employee();
-        employee.setEmployeeCode(request.getEmployeeCode());
+        long generatedId = employeeIdGenerator.nextId();
+        employee.setEmployeeId(employeeIdGenerator.formatEmployeeId(generatedId));
+        if (request.getEmployeeCode() != null && !request.getEmployeeCode().isEmpty()) {
+            employee.setEmployeeCode(request.getEmployeeCode());
+        } else {
+            employee.setEmployeeCode(employeeIdGenerator.formatEmployeeCode(generatedId));
+        }
         employee.setFirstName(request.getFirstName());
         employee.setLastName(request.getLastName());
         employee.setEmail(request.getEmail());
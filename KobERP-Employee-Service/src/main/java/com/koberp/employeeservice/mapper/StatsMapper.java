@@ -0,0 +1,87 @@
+package com.koberp.employeeservice.mapper;
+
+import com.koberp.employeeservice.dto.SalaryDistributionResponse;
+import com.koberp.employeeservice.dto.SalaryStats;
+import com.koberp.employeeservice.dto.StatsResponse;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+public class StatsMapper {
+    
+    /**
+     * Maps the rows of {@code EmployeeRepository.getEmployeeStatsRows()}: one row per department
+     * followed by the grand total row flagged with {@code is_total = 1}.
+     */
+    public StatsResponse toResponse(List<Object[]> rows) {
+        Map<String, Long> deptDistribution = new HashMap<>();
+        Object[] totals = null;
+        for (Object[] row : rows) {
+            if (((Number) row[1]).intValue() == 1) {
+                totals = row;
+            } else {
+                deptDistribution.put(String.valueOf(row[0]), ((Number) row[2]).longValue());
+            }
+        }
+        
+        BigDecimal avgSalary = totals[6] != null ?
+                new BigDecimal(totals[6].toString()).setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+        double avgYearsOfService = totals[7] != null ? ((Number) totals[7]).doubleValue() : 0.0;
+        
+        return StatsResponse.builder()
+                .totalEmployees(((Number) totals[2]).longValue())
+                .activeEmployees(((Number) totals[3]).longValue())
+                .inactiveEmployees(((Number) totals[4]).longValue())
+                .onLeaveEmployees(((Number) totals[5]).longValue())
+                .departmentDistribution(deptDistribution)
+                .averageSalary(avgSalary)
+                .averageYearsOfService(Math.round(avgYearsOfService * 100.0) / 100.0)
+                .newHiresThisMonth(((Number) totals[8]).longValue())
+                .build();
+    }
+    
+    /**
+     * Maps the rows of {@code EmployeeRepository.getSalaryDistributionRows()}. Groups are returned
+     * sorted by name.
+     */
+    public SalaryDistributionResponse toSalaryDistribution(List<Object[]> rows) {
+        Map<String, SalaryStats> byDepartment = new TreeMap<>();
+        Map<String, SalaryStats> byPosition = new TreeMap<>();
+        SalaryStats overall = SalaryStats.builder().build();
+        for (Object[] row : rows) {
+            SalaryStats stats = SalaryStats.builder()
+                    .count(((Number) row[4]).longValue())
+                    .min(toSalary(row[5]))
+                    .p10(toSalary(row[6]))
+                    .median(toSalary(row[7]))
+                    .p90(toSalary(row[8]))
+                    .max(toSalary(row[9]))
+                    .average(toSalary(row[10]))
+                    .build();
+            if (((Number) row[2]).intValue() == 1) {
+                byDepartment.put(String.valueOf(row[0]), stats);
+            } else if (((Number) row[3]).intValue() == 1) {
+                byPosition.put(String.valueOf(row[1]), stats);
+            } else {
+                overall = stats;
+            }
+        }
+        return SalaryDistributionResponse.builder()
+                .overall(overall)
+                .byDepartment(byDepartment)
+                .byPosition(byPosition)
+                .computedAt(LocalDateTime.now())
+                .build();
+    }
+    
+    private static BigDecimal toSalary(Object value) {
+        return value != null ? new BigDecimal(value.toString()).setScale(2, RoundingMode.HALF_UP) : null;
+    }
+}
@@ -16,18 +16,20 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@SQLDelete(sql = "UPDATE employees SET deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE employees SET deleted = true, updated_at = LOCALTIMESTAMP WHERE id = ?")
 @SQLRestriction("deleted = false")
 public class Employee {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "employee_id", unique = true, nullable = false, length = 50)
     private String employeeId;
     
-    @Column(name = "employee_code", unique = true, length = 50)
+    // Unique among live employees only (partial index in database-schema.sql)
+    @Column(name = "employee_code", length = 50)
     private String employeeCode;
     
     @Column(name = "first_name", nullable = false, length = 100)
@@ -36,7 +38,8 @@ public class Employee {
     @Column(name = "last_name", nullable = false, length = 100)
     private String lastName;
     
-    @Column(unique = true, nullable = false, length = 100)
+    // Unique among live employees only (partial index in database-schema.sql)
+    @Column(nullable = false, length = 100)
     private String email;
     
     @Column(length = 20)
@@ -99,16 +102,14 @@ public class Employee {
     @Column(name = "deleted", nullable = false)
     private Boolean deleted = false;
     
+    // Maintained by a database trigger, see database-schema.sql
+    @Column(name = "change_txid", insertable = false, updatable = false)
+    private Long changeTxid;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        if (employeeId == null || employeeId.isEmpty()) {
-            employeeId = generateEmployeeId();
-        }
-        if (employeeCode == null || employeeCode.isEmpty()) {
-            employeeCode = generateEmployeeCode();
-        }
     }
     
     @PreUpdate
@@ -116,14 +117,6 @@ public class Employee {
         updatedAt = LocalDateTime.now();
     }
     
-    private String generateEmployeeId() {
-        return "EID" + System.currentTimeMillis();
-    }
-    
-    private String generateEmployeeCode() {
-        return "EMP" + System.currentTimeMillis();
-    }
-    
     @Transient
     public String getFullName() {
         return firstName + " " + lastName;
@@ -131,25 +124,31 @@ public class Employee {
     
     @Transient
     public Integer getAge() {
-        if (birthDate != null) {
-            return LocalDate.now().getYear() - birthDate.getYear();
-        }
-        return null;
+        return yearsSince(birthDate);
     }
     
     @Transient
     public Integer getYearsOfService() {
-        if (hireDate != null) {
-            return LocalDate.now().getYear() - hireDate.getYear();
-        }
-        return null;
+        return yearsSince(hireDate);
     }
     
     @Transient
     public Integer getRemainingLeaveDaysCalculated() {
+        return remainingLeaveDays(totalLeaveDays, usedLeaveDays, remainingLeaveDays);
+    }
+    
+    // Shared with the sparse fieldset projections, which compute these without loading the entity
+    public static Integer yearsSince(LocalDate date) {
+        if (date != null) {
+            return LocalDate.now().getYear() - date.getYear();
+        }
+        return null;
+    }
+    
+    public static Integer remainingLeaveDays(Integer totalLeaveDays, Integer usedLeaveDays, Integer storedRemainingLeaveDays) {
         if (totalLeaveDays != null && usedLeaveDays != null) {
             return totalLeaveDays - usedLeaveDays;
         }
-        return remainingLeaveDays;
+        return storedRemainingLeaveDays;
     }
 }
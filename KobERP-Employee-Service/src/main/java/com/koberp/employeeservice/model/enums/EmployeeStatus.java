@@ -1,7 +1,29 @@
 package com.koberp.employeeservice.model.enums;
 
+import com.koberp.employeeservice.exception.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
 public enum EmployeeStatus {
     ACTIVE,
     INACTIVE,
-    ON_LEAVE
+    ON_LEAVE;
+    
+    /**
+     * Parses a status from a request, ignoring case.
+     *
+     * @throws InvalidRequestException when the value is blank or not a known status
+     */
+    public static EmployeeStatus of(String name) {
+        if (name == null || name.isBlank()) {
+            throw new InvalidRequestException("Status is required");
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Unsupported status '" + name + "', expected one of " +
+                    Arrays.toString(values()));
+        }
+    }
 }
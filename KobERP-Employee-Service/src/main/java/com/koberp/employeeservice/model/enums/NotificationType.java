@@ -0,0 +1,7 @@
+package com.koberp.employeeservice.model.enums;
+
+public enum NotificationType {
+    CONTRACT_EXPIRING,
+    LEAVE_OVERDRAWN,
+    LEAVE_UNUSED
+}
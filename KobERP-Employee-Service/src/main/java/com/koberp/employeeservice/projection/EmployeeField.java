@@ -0,0 +1,85 @@
+package com.koberp.employeeservice.projection;
+
+import com.koberp.employeeservice.exception.InvalidRequestException;
+import com.koberp.employeeservice.model.Employee;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Fields selectable through the {@code fields=} parameter. Each field names the entity attributes
+ * it is computed from, so a projection only selects the columns it actually needs, and how to
+ * derive its value from them.
+ */
+public enum EmployeeField {
+    
+    ID("id"),
+    EMPLOYEE_CODE("employeeCode"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    FULL_NAME("fullName", v -> v[0] + " " + v[1], "firstName", "lastName"),
+    EMAIL("email"),
+    PHONE("phone"),
+    BIRTH_DATE("birthDate"),
+    HIRE_DATE("hireDate"),
+    CONTRACT_END_DATE("contractEndDate"),
+    POSITION("position"),
+    DEPARTMENT_ID("departmentId"),
+    SALARY("salary"),
+    PERFORMANCE_SCORE("performanceScore"),
+    AGE("age", v -> Employee.yearsSince((LocalDate) v[0]), "birthDate"),
+    YEARS_OF_SERVICE("yearsOfService", v -> Employee.yearsSince((LocalDate) v[0]), "hireDate"),
+    ADDRESS("address"),
+    EMERGENCY_CONTACT_NAME("emergencyContactName"),
+    EMERGENCY_CONTACT_PHONE("emergencyContactPhone"),
+    EDUCATION_LEVEL("educationLevel"),
+    TOTAL_LEAVE_DAYS("totalLeaveDays"),
+    USED_LEAVE_DAYS("usedLeaveDays"),
+    REMAINING_LEAVE_DAYS("remainingLeaveDays",
+            v -> Employee.remainingLeaveDays((Integer) v[0], (Integer) v[1], (Integer) v[2]),
+            "totalLeaveDays", "usedLeaveDays", "remainingLeaveDays"),
+    STATUS("status"),
+    AVATAR_PATH("avatarPath"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+    
+    private final String jsonName;
+    private final String[] attributes;
+    private final Function<Object[], Object> compute;
+    
+    EmployeeField(String attribute) {
+        this(attribute, null, attribute);
+    }
+    
+    EmployeeField(String jsonName, Function<Object[], Object> compute, String... attributes) {
+        this.jsonName = jsonName;
+        this.compute = compute;
+        this.attributes = attributes;
+    }
+    
+    public String getJsonName() {
+        return jsonName;
+    }
+    
+    String[] getAttributes() {
+        return attributes;
+    }
+    
+    // Plain column fields are copied straight from the tuple without building a source array
+    boolean isComputed() {
+        return compute != null;
+    }
+    
+    Object compute(Object[] values) {
+        return compute.apply(values);
+    }
+    
+    public static EmployeeField fromJsonName(String name) {
+        for (EmployeeField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidRequestException("Unknown employee field: " + name);
+    }
+}
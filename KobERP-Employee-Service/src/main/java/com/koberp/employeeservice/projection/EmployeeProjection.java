@@ -0,0 +1,127 @@
+package com.koberp.employeeservice.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.Tuple;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A compiled sparse fieldset: the JPQL select list for the requested fields plus, per field, the
+ * positions of its source columns in the result tuple. Serving a request is plain array indexing
+ * and direct {@link JsonGenerator} calls with no reflection. {@code id} is always included.
+ * <p>
+ * Field sets are chosen by clients, so compiled projections are kept in a small LRU-style cache
+ * rather than one entry per combination ever requested; a projection evicted from it is simply
+ * compiled again, which is cheap.
+ */
+public final class EmployeeProjection {
+    
+    private static final int MAX_COMPILED = 256;
+    
+    private static final Cache<EnumSet<EmployeeField>, EmployeeProjection> COMPILED = Caffeine.newBuilder()
+            .maximumSize(MAX_COMPILED)
+            .build();
+    
+    private static final EmployeeProjection ALL = new EmployeeProjection(EnumSet.allOf(EmployeeField.class));
+    
+    private final String selectList;
+    private final EmployeeField[] fields;
+    private final int[][] sourceIndexes;
+    
+    private EmployeeProjection(EnumSet<EmployeeField> requested) {
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        this.fields = requested.toArray(EmployeeField[]::new);
+        this.sourceIndexes = new int[fields.length][];
+        for (int i = 0; i < fields.length; i++) {
+            String[] attributes = fields[i].getAttributes();
+            sourceIndexes[i] = new int[attributes.length];
+            for (int j = 0; j < attributes.length; j++) {
+                sourceIndexes[i][j] = columns.computeIfAbsent(attributes[j], a -> columns.size());
+            }
+        }
+        this.selectList = columns.keySet().stream()
+                .map(attribute -> "e." + attribute)
+                .collect(Collectors.joining(", "));
+    }
+    
+    /**
+     * Parses a comma separated {@code fields} parameter, e.g. {@code firstName,departmentId,status}.
+     */
+    public static EmployeeProjection of(String fields) {
+        EnumSet<EmployeeField> requested = EnumSet.of(EmployeeField.ID);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(EmployeeField::fromJsonName)
+                .forEach(requested::add);
+        return COMPILED.get(requested, EmployeeProjection::new);
+    }
+    
+    public static EmployeeProjection all() {
+        return ALL;
+    }
+    
+    static long compiledCount() {
+        COMPILED.cleanUp();
+        return COMPILED.estimatedSize();
+    }
+    
+    public String getSelectList() {
+        return selectList;
+    }
+    
+    public int getFieldCount() {
+        return fields.length;
+    }
+    
+    public String getFieldName(int field) {
+        return fields[field].getJsonName();
+    }
+    
+    public Object getValue(Tuple row, int field) {
+        int[] indexes = sourceIndexes[field];
+        if (!fields[field].isComputed()) {
+            return row.get(indexes[0]);
+        }
+        Object[] sources = new Object[indexes.length];
+        for (int j = 0; j < indexes.length; j++) {
+            sources[j] = row.get(indexes[j]);
+        }
+        return fields[field].compute(sources);
+    }
+    
+    public void write(Tuple row, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        for (int i = 0; i < fields.length; i++) {
+            gen.writeFieldName(fields[i].getJsonName());
+            writeValue(getValue(row, i), gen, provider);
+        }
+        gen.writeEndObject();
+    }
+    
+    private static void writeValue(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof String text) {
+            gen.writeString(text);
+        } else if (value instanceof Long number) {
+            gen.writeNumber(number);
+        } else if (value instanceof Integer number) {
+            gen.writeNumber(number);
+        } else if (value instanceof BigDecimal number) {
+            gen.writeNumber(number);
+        } else {
+            // Dates go through the configured java.time serializers so formatting matches EmployeeResponse
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.koberp.employeeservice.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import jakarta.persistence.Tuple;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sparse fieldset result that serializes itself through its {@link EmployeeProjection}, either as
+ * a JSON array or, for single employee lookups, as one object.
+ */
+public class ProjectedEmployees extends JsonSerializable.Base {
+    
+    private final EmployeeProjection projection;
+    private final List<Tuple> rows;
+    private final boolean single;
+    
+    private ProjectedEmployees(EmployeeProjection projection, List<Tuple> rows, boolean single) {
+        this.projection = projection;
+        this.rows = rows;
+        this.single = single;
+    }
+    
+    public static ProjectedEmployees list(EmployeeProjection projection, List<Tuple> rows) {
+        return new ProjectedEmployees(projection, rows, false);
+    }
+    
+    public static ProjectedEmployees single(EmployeeProjection projection, Tuple row) {
+        return new ProjectedEmployees(projection, List.of(row), true);
+    }
+    
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        if (single) {
+            projection.write(rows.get(0), gen, serializers);
+            return;
+        }
+        gen.writeStartArray();
+        for (Tuple row : rows) {
+            projection.write(row, gen, serializers);
+        }
+        gen.writeEndArray();
+    }
+    
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers,
+                                  TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
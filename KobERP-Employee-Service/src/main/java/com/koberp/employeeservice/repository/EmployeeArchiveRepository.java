@@ -0,0 +1,40 @@
+package com.koberp.employeeservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Moves long soft-deleted employees from {@code employees} to {@code employees_archive}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeArchiveRepository {
+    
+    // Listed explicitly so a column added to employees fails loudly until the archive has it too
+    private static final String COLUMNS = "id, employee_id, employee_code, first_name, last_name, email, phone, " +
+            "birth_date, hire_date, contract_end_date, position, department, salary, performance_score, address, " +
+            "emergency_contact_name, emergency_contact_phone, education_level, total_leave_days, used_leave_days, " +
+            "remaining_leave_days, status, avatar_path, created_at, updated_at, deleted, change_txid";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Moves up to {@code limit} employees deleted before {@code cutoff} in one statement, so each
+     * batch is its own short transaction. Rows locked by another archiver are skipped rather than
+     * waited for. Returns how many were moved.
+     */
+    public int archiveDeletedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("WITH moved AS (" +
+                        "DELETE FROM employees WHERE id IN (" +
+                        "SELECT id FROM employees WHERE deleted = true AND updated_at < ? " +
+                        "ORDER BY updated_at, id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+                        "RETURNING " + COLUMNS + ") " +
+                        "INSERT INTO employees_archive (" + COLUMNS + ", archived_at) " +
+                        "SELECT " + COLUMNS + ", LOCALTIMESTAMP FROM moved",
+                Timestamp.valueOf(cutoff), limit);
+    }
+}
@@ -0,0 +1,91 @@
+package com.koberp.employeeservice.repository;
+
+import com.koberp.employeeservice.dto.BulkEmployeeRequest;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set-based employee writes that would otherwise load and save every entity one by one. Each
+ * statement locks the matching live rows, updates them and returns their previous state in a
+ * single round trip, so callers can keep the in-memory read models consistent.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeBulkRepository {
+    
+    static final String SNAPSHOT_COLUMNS =
+            "id, employee_code, first_name, last_name, email, department, position, status, salary, hire_date";
+    
+    static final RowMapper<EmployeeSnapshot> SNAPSHOT_ROW_MAPPER = (rs, rowNum) -> new EmployeeSnapshot(
+            rs.getLong("id"),
+            rs.getString("employee_code"),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getString("email"),
+            rs.getString("department"),
+            rs.getString("position"),
+            rs.getString("status"),
+            rs.getBigDecimal("salary"),
+            rs.getObject("hire_date", LocalDate.class)
+    );
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public List<EmployeeSnapshot> softDelete(BulkEmployeeRequest filter) {
+        return updateReturningPrevious("deleted = true, updated_at = LOCALTIMESTAMP", List.of(), filter);
+    }
+    
+    public List<EmployeeSnapshot> updateStatus(BulkEmployeeRequest filter, String status) {
+        return updateReturningPrevious("status = ?, updated_at = LOCALTIMESTAMP", List.of(status), filter);
+    }
+    
+    private List<EmployeeSnapshot> updateReturningPrevious(String assignments, List<Object> assignmentArgs,
+                                                           BulkEmployeeRequest filter) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        conditions.add("deleted = false");
+        if (filter.getIds() != null && !filter.getIds().isEmpty()) {
+            conditions.add("id = ANY(?)");
+            args.add(filter.getIds());
+        }
+        if (filter.getDepartmentId() != null) {
+            conditions.add("department = ?");
+            args.add(filter.getDepartmentId());
+        }
+        if (filter.getPosition() != null) {
+            conditions.add("position = ?");
+            args.add(filter.getPosition());
+        }
+        if (filter.getCurrentStatus() != null) {
+            conditions.add("status = ?");
+            args.add(filter.getCurrentStatus());
+        }
+        args.addAll(assignmentArgs);
+        
+        String sql = "WITH target AS (SELECT " + SNAPSHOT_COLUMNS + " FROM employees WHERE " +
+                String.join(" AND ", conditions) + " FOR UPDATE) " +
+                "UPDATE employees e SET " + assignments + " FROM target t WHERE e.id = t.id " +
+                "RETURNING t.*";
+        
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            for (int i = 0; i < args.size(); i++) {
+                Object arg = args.get(i);
+                if (arg instanceof List<?> list) {
+                    ps.setArray(i + 1, con.createArrayOf("bigint", list.toArray()));
+                } else {
+                    ps.setObject(i + 1, arg);
+                }
+            }
+            return ps;
+        }, SNAPSHOT_ROW_MAPPER);
+    }
+}
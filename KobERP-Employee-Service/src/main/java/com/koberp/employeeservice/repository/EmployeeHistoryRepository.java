@@ -0,0 +1,82 @@
+package com.koberp.employeeservice.repository;
+
+import com.koberp.employeeservice.dto.EmployeeHistoryEntry;
+import com.koberp.employeeservice.dto.HeadcountStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads {@code employee_history}, which a database trigger appends to on every relevant employee
+ * write. The state at an instant is the latest row per employee before it, taken with one
+ * {@code DISTINCT ON} pass over the {@code (employee_id, valid_from DESC, id DESC)} index, whose
+ * order matches {@link #STATE_BEFORE} so no sort is needed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeHistoryRepository {
+    
+    public record DepartmentHeadcount(String departmentId, HeadcountStats stats) {
+    }
+    
+    private static final String COLUMNS = "employee_id, department, position, status, salary, deleted, valid_from";
+    
+    private static final String STATE_BEFORE = "SELECT DISTINCT ON (employee_id) " + COLUMNS +
+            " FROM employee_history WHERE valid_from < ? ORDER BY employee_id, valid_from DESC, id DESC";
+    
+    private static final RowMapper<EmployeeHistoryEntry> ENTRY_ROW_MAPPER = (rs, rowNum) ->
+            EmployeeHistoryEntry.builder()
+                    .employeeId(rs.getLong("employee_id"))
+                    .departmentId(rs.getString("department"))
+                    .position(rs.getString("position"))
+                    .status(rs.getString("status"))
+                    .salary(rs.getBigDecimal("salary"))
+                    .deleted(rs.getBoolean("deleted"))
+                    .validFrom(rs.getObject("valid_from", LocalDateTime.class))
+                    .build();
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public List<EmployeeHistoryEntry> findByEmployee(long employeeId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM employee_history WHERE employee_id = ? " +
+                "ORDER BY valid_from, id", ENTRY_ROW_MAPPER, employeeId);
+    }
+    
+    /**
+     * Employees that existed just before {@code instant}, each with the attributes it had then.
+     */
+    public List<EmployeeHistoryEntry> findStateBefore(LocalDateTime instant, String departmentId) {
+        if (departmentId == null) {
+            return jdbcTemplate.query("SELECT * FROM (" + STATE_BEFORE + ") s WHERE NOT deleted ORDER BY employee_id",
+                    ENTRY_ROW_MAPPER, Timestamp.valueOf(instant));
+        }
+        return jdbcTemplate.query("SELECT * FROM (" + STATE_BEFORE + ") s WHERE NOT deleted AND department = ? " +
+                "ORDER BY employee_id", ENTRY_ROW_MAPPER, Timestamp.valueOf(instant), departmentId);
+    }
+    
+    /**
+     * Headcount and payroll just before {@code instant}, aggregated in the database: one row per
+     * department plus a total row with a null department.
+     */
+    public List<DepartmentHeadcount> getHeadcountStatsBefore(LocalDateTime instant) {
+        return jdbcTemplate.query("SELECT department, GROUPING(department) AS is_total, " +
+                        "COUNT(*) FILTER (WHERE status IS DISTINCT FROM 'INACTIVE') AS headcount, " +
+                        "COUNT(*) FILTER (WHERE status = 'ACTIVE') AS active, " +
+                        "COALESCE(SUM(salary) FILTER (WHERE status IS DISTINCT FROM 'INACTIVE'), 0) AS payroll " +
+                        "FROM (" + STATE_BEFORE + ") s WHERE NOT deleted " +
+                        "GROUP BY GROUPING SETS ((department), ())",
+                (rs, rowNum) -> new DepartmentHeadcount(
+                        rs.getInt("is_total") == 1 ? null : rs.getString("department"),
+                        HeadcountStats.builder()
+                                .headcount(rs.getLong("headcount"))
+                                .activeHeadcount(rs.getLong("active"))
+                                .payroll(rs.getBigDecimal("payroll"))
+                                .build()),
+                Timestamp.valueOf(instant));
+    }
+}
@@ -0,0 +1,99 @@
+package com.koberp.employeeservice.repository;
+
+import com.koberp.employeeservice.dto.EmployeeNotificationResponse;
+import com.koberp.employeeservice.model.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Candidate lookups for the notification scan and the notifications table itself. Candidate
+ * queries are keyset paged on the indexed column plus id, so each chunk is an index range scan that
+ * starts where the previous one stopped.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeNotificationRepository {
+    
+    public record Candidate(long employeeId, String fullName, LocalDate contractEndDate, Integer remainingLeaveDays) {
+    }
+    
+    public record NewNotification(long employeeId, NotificationType type, LocalDate referenceDate, String message) {
+    }
+    
+    private static final String CANDIDATE_COLUMNS =
+            "id, first_name || ' ' || last_name AS full_name, contract_end_date, remaining_leave_days";
+    
+    // Inactive employees have left; nobody needs reminding about their contract or leave
+    private static final String LIVE_EMPLOYEE = "deleted = false AND status IS DISTINCT FROM 'INACTIVE'";
+    
+    private static final RowMapper<Candidate> CANDIDATE_ROW_MAPPER = (rs, rowNum) -> new Candidate(
+            rs.getLong("id"),
+            rs.getString("full_name"),
+            rs.getObject("contract_end_date", LocalDate.class),
+            rs.getObject("remaining_leave_days", Integer.class)
+    );
+    
+    private static final RowMapper<EmployeeNotificationResponse> NOTIFICATION_ROW_MAPPER = (rs, rowNum) ->
+            EmployeeNotificationResponse.builder()
+                    .id(rs.getLong("id"))
+                    .employeeId(rs.getLong("employee_id"))
+                    .type(rs.getString("type"))
+                    .referenceDate(rs.getObject("reference_date", LocalDate.class))
+                    .message(rs.getString("message"))
+                    .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                    .build();
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Contracts ending in {@code [from, to]} after the keyset position {@code (afterDate, afterId)}.
+     */
+    public List<Candidate> findContractsEndingBetween(LocalDate from, LocalDate to, LocalDate afterDate, long afterId,
+                                                      int limit) {
+        return jdbcTemplate.query("SELECT " + CANDIDATE_COLUMNS + " FROM employees " +
+                        "WHERE " + LIVE_EMPLOYEE + " AND contract_end_date BETWEEN ? AND ? " +
+                        "AND (contract_end_date, id) > (?, ?) ORDER BY contract_end_date, id LIMIT ?",
+                CANDIDATE_ROW_MAPPER, Date.valueOf(from), Date.valueOf(to), Date.valueOf(afterDate), afterId, limit);
+    }
+    
+    /**
+     * Remaining leave in {@code [min, max]} after the keyset position {@code (afterDays, afterId)}.
+     */
+    public List<Candidate> findRemainingLeaveBetween(int min, int max, int afterDays, long afterId, int limit) {
+        return jdbcTemplate.query("SELECT " + CANDIDATE_COLUMNS + " FROM employees " +
+                        "WHERE " + LIVE_EMPLOYEE + " AND remaining_leave_days BETWEEN ? AND ? " +
+                        "AND (remaining_leave_days, id) > (?, ?) ORDER BY remaining_leave_days, id LIMIT ?",
+                CANDIDATE_ROW_MAPPER, min, max, afterDays, afterId, limit);
+    }
+    
+    /**
+     * Inserts the notifications, skipping any already raised for the same employee, type and
+     * reference date. Returns how many were new.
+     */
+    public int insert(List<NewNotification> notifications) {
+        List<Object[]> args = notifications.stream()
+                .map(n -> new Object[] {n.employeeId(), n.type().name(), n.referenceDate(), n.message()})
+                .toList();
+        int[] counts = jdbcTemplate.batchUpdate(
+                "INSERT INTO employee_notifications (employee_id, type, reference_date, message) VALUES (?, ?, ?, ?) " +
+                "ON CONFLICT (employee_id, type, reference_date) DO NOTHING", args);
+        return (int) Arrays.stream(counts).filter(count -> count > 0).count();
+    }
+    
+    public List<EmployeeNotificationResponse> findAfter(NotificationType type, long afterId, int limit) {
+        if (type == null) {
+            return jdbcTemplate.query("SELECT * FROM employee_notifications WHERE id > ? ORDER BY id LIMIT ?",
+                    NOTIFICATION_ROW_MAPPER, afterId, limit);
+        }
+        return jdbcTemplate.query("SELECT * FROM employee_notifications WHERE type = ? AND id > ? ORDER BY id LIMIT ?",
+                NOTIFICATION_ROW_MAPPER, type.name(), afterId, limit);
+    }
+}
@@ -0,0 +1,111 @@
+package com.koberp.employeeservice.repository;
+
+import com.koberp.employeeservice.model.Employee;
+import com.koberp.employeeservice.projection.EmployeeProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Runs the employee read queries with a narrowed select list. JPQL is used so the
+ * {@code deleted = false} restriction on {@link Employee} still applies.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeProjectionRepository {
+    
+    public enum Filter {
+        ALL(null),
+        ID("e.id = :value"),
+        DEPARTMENT("e.departmentId = :value"),
+        POSITION("e.position = :value"),
+        STATUS("e.status = :value"),
+        SEARCH("LOWER(e.firstName) LIKE LOWER(CONCAT('%', :value, '%')) OR " +
+               "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :value, '%')) OR " +
+               "LOWER(e.email) LIKE LOWER(CONCAT('%', :value, '%')) OR " +
+               "LOWER(e.position) LIKE LOWER(CONCAT('%', :value, '%')) OR " +
+               "LOWER(e.employeeCode) LIKE LOWER(CONCAT('%', :value, '%'))");
+        
+        private final String condition;
+        
+        Filter(String condition) {
+            this.condition = condition;
+        }
+        
+        private String parameter() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+    
+    // Trailing lookup columns, read by alias so they never shift the projection's own indexes
+    public static final String LOOKUP_ID = "lookupId";
+    public static final String LOOKUP_CODE = "lookupCode";
+    
+    private final EntityManager entityManager;
+    
+    public List<Tuple> find(EmployeeProjection projection, Filter filter, Object value) {
+        Map<Filter, Object> filters = filter.condition != null ? Map.of(filter, value) : Map.of();
+        return createQuery(projection, filters).getResultList();
+    }
+    
+    /**
+     * Streams the matching rows through a server-side cursor, {@code fetchSize} rows per round trip.
+     * Rows are scalar tuples, never entities, so the persistence context stays empty however many
+     * rows are read. Must be consumed and closed inside a transaction; PostgreSQL only honours the
+     * fetch size with auto-commit off.
+     */
+    public Stream<Tuple> stream(EmployeeProjection projection, Map<Filter, Object> filters, int fetchSize) {
+        return createQuery(projection, filters)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+    
+    /**
+     * Employees matching any of the ids or employee codes, in one query. Each row also carries its
+     * id and code under {@link #LOOKUP_ID} and {@link #LOOKUP_CODE} so callers can tell which keys
+     * were not found, whatever fields the projection selects.
+     */
+    public List<Tuple> findByIdsOrCodes(EmployeeProjection projection, Collection<Long> ids, Collection<String> codes) {
+        StringBuilder jpql = new StringBuilder("SELECT ").append(projection.getSelectList())
+                .append(", e.id AS ").append(LOOKUP_ID).append(", e.employeeCode AS ").append(LOOKUP_CODE)
+                .append(" FROM Employee e WHERE ");
+        if (!ids.isEmpty()) {
+            jpql.append(codes.isEmpty() ? "e.id IN :ids" : "(e.id IN :ids OR e.employeeCode IN :codes)");
+        } else {
+            jpql.append("e.employeeCode IN :codes");
+        }
+        jpql.append(" ORDER BY e.id");
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (!ids.isEmpty()) {
+            query.setParameter("ids", ids);
+        }
+        if (!codes.isEmpty()) {
+            query.setParameter("codes", codes);
+        }
+        return query.getResultList();
+    }
+    
+    private TypedQuery<Tuple> createQuery(EmployeeProjection projection, Map<Filter, Object> filters) {
+        StringBuilder jpql = new StringBuilder("SELECT ").append(projection.getSelectList()).append(" FROM Employee e");
+        String separator = " WHERE ";
+        for (Filter filter : filters.keySet()) {
+            jpql.append(separator).append('(').append(filter.condition.replace(":value", ":" + filter.parameter())).append(')');
+            separator = " AND ";
+        }
+        jpql.append(" ORDER BY e.id");
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        filters.forEach((filter, value) -> query.setParameter(filter.parameter(), value));
+        return query;
+    }
+}
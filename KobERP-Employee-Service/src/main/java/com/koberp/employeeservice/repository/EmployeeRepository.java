@@ -1,14 +1,20 @@
 package com.koberp.employeeservice.repository;
 
+import com.koberp.employeeservice.event.EmployeeSnapshot;
 import com.koberp.employeeservice.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
@@ -21,6 +27,19 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     
     boolean existsByEmployeeCode(String employeeCode);
     
+    // Email and code are unique among live rows only, matching the partial unique indexes
+    @Query(value = "SELECT email FROM employees WHERE email IN (:emails) AND deleted = false", nativeQuery = true)
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    @Query(value = "SELECT employee_code FROM employees WHERE employee_code IN (:codes) AND deleted = false", nativeQuery = true)
+    List<String> findExistingEmployeeCodes(@Param("codes") Collection<String> codes);
+    
+    @Query(value = "SELECT email, employee_code FROM employees WHERE deleted = false", nativeQuery = true)
+    List<Object[]> findAllUniqueKeys();
+    
+    @Query(value = "SELECT COUNT(*) FROM employees", nativeQuery = true)
+    long countAllIncludingDeleted();
+    
     List<Employee> findByDepartmentId(String departmentId);
     
     List<Employee> findByPosition(String position);
@@ -41,16 +60,82 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Query("SELECT DISTINCT e.position FROM Employee e ORDER BY e.position")
     List<String> findAllPositions();
     
-    @Query("SELECT COUNT(e) FROM Employee e WHERE e.status = :status")
-    Long countByStatus(@Param("status") String status);
+    /**
+     * Computes every {@code StatsResponse} figure in a single pass. One row is returned per
+     * department plus a grand total row flagged by {@code is_total = 1}. Columns: department,
+     * is_total, total, active, inactive, on_leave, avg_salary, avg_years_of_service,
+     * new_hires_this_month, salary_count, salary_sum, hired_count, hire_year_sum; the last four are
+     * the raw sums behind the averages, used to check the in-memory counters for drift.
+     */
+    @Query(value = "SELECT department, GROUPING(department) AS is_total, " +
+           "COUNT(*) AS total, " +
+           "COUNT(*) FILTER (WHERE status = 'ACTIVE') AS active, " +
+           "COUNT(*) FILTER (WHERE status = 'INACTIVE') AS inactive, " +
+           "COUNT(*) FILTER (WHERE status = 'ON_LEAVE') AS on_leave, " +
+           "AVG(salary) AS avg_salary, " +
+           "AVG(EXTRACT(YEAR FROM age(CURRENT_DATE, hire_date))) AS avg_years_of_service, " +
+           "COUNT(*) FILTER (WHERE hire_date >= date_trunc('month', CURRENT_DATE) " +
+           "AND hire_date < date_trunc('month', CURRENT_DATE) + INTERVAL '1 month') AS new_hires_this_month, " +
+           "COUNT(salary) AS salary_count, SUM(salary) AS salary_sum, " +
+           "COUNT(hire_date) AS hired_count, SUM(EXTRACT(YEAR FROM hire_date)) AS hire_year_sum " +
+           "FROM employees WHERE deleted = false " +
+           "GROUP BY GROUPING SETS ((department), ())",
+           nativeQuery = true)
+    List<Object[]> getEmployeeStatsRows();
+    
+    /**
+     * Salary distribution of live employees with a salary, one row per department, one per position
+     * and a grand total row. The percentiles share one sort per group. Columns: department,
+     * position, is_department (1 on department rows), is_position (1 on position rows), count, min,
+     * p10, median, p90, max, avg.
+     */
+    @Query(value = "SELECT department, position, " +
+           "1 - GROUPING(department) AS is_department, 1 - GROUPING(position) AS is_position, " +
+           "COUNT(*) AS count, MIN(salary) AS min, " +
+           "percentile_cont(0.1) WITHIN GROUP (ORDER BY salary) AS p10, " +
+           "percentile_cont(0.5) WITHIN GROUP (ORDER BY salary) AS median, " +
+           "percentile_cont(0.9) WITHIN GROUP (ORDER BY salary) AS p90, " +
+           "MAX(salary) AS max, AVG(salary) AS avg " +
+           "FROM employees WHERE deleted = false AND salary IS NOT NULL " +
+           "GROUP BY GROUPING SETS ((department), (position), ())",
+           nativeQuery = true)
+    List<Object[]> getSalaryDistributionRows();
+    
+    /**
+     * Streams the (hire_date, contract_end_date, status, updated_at, deleted) tuples of every employee
+     * hired before {@code end} who may still have been employed on or after {@code start}. Native so
+     * soft deleted and archived employees, whose deletion is an exit, are included. Must be consumed
+     * inside a transaction.
+     */
+    @Query(value = "SELECT hire_date, contract_end_date, status, updated_at, deleted FROM employees " +
+           "WHERE hire_date IS NOT NULL AND hire_date < :end " +
+           "AND (contract_end_date IS NULL OR contract_end_date >= :start) " +
+           "UNION ALL " +
+           "SELECT hire_date, contract_end_date, status, updated_at, deleted FROM employees_archive " +
+           "WHERE hire_date IS NOT NULL AND hire_date < :end " +
+           "AND (contract_end_date IS NULL OR contract_end_date >= :start)",
+           nativeQuery = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Object[]> streamEmploymentPeriods(@Param("start") LocalDate start, @Param("end") LocalDate end);
     
-    @Query("SELECT e.departmentId, COUNT(e) FROM Employee e GROUP BY e.departmentId")
-    List<Object[]> getDepartmentDistribution();
+    // Native so soft deleted rows are returned as tombstones
+    @Query(value = "SELECT * FROM employees WHERE (change_txid, id) > (:txid, :id) " +
+           "AND (:includeDeleted = true OR deleted = false) " +
+           "ORDER BY change_txid, id LIMIT :limit", nativeQuery = true)
+    List<Employee> findChangesAfter(@Param("txid") long txid,
+                                    @Param("id") long id,
+                                    @Param("includeDeleted") boolean includeDeleted,
+                                    @Param("limit") int limit);
     
-    @Query("SELECT AVG(e.salary) FROM Employee e WHERE e.salary IS NOT NULL")
-    Double getAverageSalary();
+    // Every transaction below this id has finished, so its rows are already visible
+    @Query(value = "SELECT txid_snapshot_xmin(txid_current_snapshot())", nativeQuery = true)
+    long currentSnapshotXmin();
     
-    @Query("SELECT COUNT(e) FROM Employee e WHERE " +
-           "YEAR(e.hireDate) = YEAR(:date) AND MONTH(e.hireDate) = MONTH(:date)")
-    Long countNewHiresInMonth(@Param("date") LocalDate date);
+    @Query("SELECT new com.koberp.employeeservice.event.EmployeeSnapshot(" +
+           "e.id, e.employeeCode, e.firstName, e.lastName, e.email, e.departmentId, " +
+           "e.position, e.status, e.salary, e.hireDate) FROM Employee e")
+    List<EmployeeSnapshot> findAllSnapshots();
 }
@@ -0,0 +1,194 @@
+package com.koberp.employeeservice.service;
+
+import com.koberp.employeeservice.dto.HeadcountPoint;
+import com.koberp.employeeservice.dto.HeadcountSeriesResponse;
+import com.koberp.employeeservice.exception.InvalidRequestException;
+import com.koberp.employeeservice.model.enums.EmployeeStatus;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeAnalyticsService {
+    
+    private static final int MAX_PERIODS = 10_000;
+    
+    public enum Granularity {
+        DAY,
+        WEEK,
+        MONTH,
+        QUARTER,
+        YEAR;
+        
+        LocalDate periodStart(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+                case QUARTER -> date.with(IsoFields.DAY_OF_QUARTER, 1);
+                case YEAR -> date.withDayOfYear(1);
+            };
+        }
+        
+        LocalDate next(LocalDate periodStart) {
+            return switch (this) {
+                case DAY -> periodStart.plusDays(1);
+                case WEEK -> periodStart.plusWeeks(1);
+                case MONTH -> periodStart.plusMonths(1);
+                case QUARTER -> periodStart.plusMonths(3);
+                case YEAR -> periodStart.plusYears(1);
+            };
+        }
+        
+        public static Granularity of(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unsupported granularity '" + name + "', expected one of " +
+                        Arrays.toString(values()));
+            }
+        }
+    }
+    
+    private final EmployeeRepository employeeRepository;
+    
+    /**
+     * Hires, exits and closing headcount for every period between {@code from} and {@code to},
+     * widened to whole periods. One streaming query loads the employment periods, which become two
+     * sorted arrays of day numbers; a single sweep over the period boundaries then counts them.
+     * <p>
+     * An employee counts from their hire date through their last day: the contract end date, or
+     * for inactive employees without one, the date they were last updated, which is the best record
+     * of when they were deactivated. Deleted employees, archived ones included, leave on the day of
+     * their deletion (stamped in updated_at) unless their contract ended earlier.
+     */
+    @Transactional(readOnly = true)
+    public HeadcountSeriesResponse getHeadcountSeries(LocalDate from, LocalDate to, Granularity granularity) {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("from must not be after to");
+        }
+        LocalDate start = granularity.periodStart(from);
+        LocalDate end = granularity.next(granularity.periodStart(to));
+        int periodCount = 0;
+        for (LocalDate period = start; period.isBefore(end); period = granularity.next(period)) {
+            if (++periodCount > MAX_PERIODS) {
+                throw new InvalidRequestException("Range too large, at most " + MAX_PERIODS + " periods are returned");
+            }
+        }
+        long started = System.currentTimeMillis();
+        
+        DayList hireDays = new DayList();
+        DayList lastDays = new DayList();
+        try (Stream<Object[]> periods = employeeRepository.streamEmploymentPeriods(start, end)) {
+            periods.forEach(row -> {
+                LocalDate hireDate = ((Date) row[0]).toLocalDate();
+                LocalDate contractEndDate = row[1] == null ? null : ((Date) row[1]).toLocalDate();
+                LocalDate lastDay = lastDay(hireDate, contractEndDate, (String) row[2],
+                        ((Timestamp) row[3]).toLocalDateTime(), (Boolean) row[4]);
+                hireDays.add(hireDate);
+                if (lastDay != null) {
+                    lastDays.add(lastDay);
+                }
+            });
+        }
+        hireDays.sort();
+        lastDays.sort();
+        
+        // Sweep: everything before the first boundary forms the opening headcount
+        int hired = hireDays.countBefore(start.toEpochDay(), 0);
+        int left = lastDays.countBefore(start.toEpochDay(), 0);
+        long headcount = hired - left;
+        long openingHeadcount = headcount;
+        List<HeadcountPoint> points = new ArrayList<>(periodCount);
+        for (LocalDate periodStart = start; periodStart.isBefore(end); periodStart = granularity.next(periodStart)) {
+            LocalDate next = granularity.next(periodStart);
+            int hiredBy = hireDays.countBefore(next.toEpochDay(), hired);
+            int leftBy = lastDays.countBefore(next.toEpochDay(), left);
+            headcount += (hiredBy - hired) - (leftBy - left);
+            points.add(HeadcountPoint.builder()
+                    .periodStart(periodStart)
+                    .periodEnd(next.minusDays(1))
+                    .hires(hiredBy - hired)
+                    .exits(leftBy - left)
+                    .headcount(headcount)
+                    .build());
+            hired = hiredBy;
+            left = leftBy;
+        }
+        
+        log.info("Headcount series {} to {} by {} over {} employees in {} ms", start, end, granularity,
+                hireDays.size, System.currentTimeMillis() - started);
+        return HeadcountSeriesResponse.builder()
+                .from(start)
+                .to(end.minusDays(1))
+                .granularity(granularity.name())
+                .openingHeadcount(openingHeadcount)
+                .points(points)
+                .build();
+    }
+    
+    private static LocalDate lastDay(LocalDate hireDate, LocalDate contractEndDate, String status,
+                                     LocalDateTime updatedAt, boolean deleted) {
+        LocalDate lastDay = contractEndDate;
+        if (deleted) {
+            // Deleted rows are never updated again, so updated_at is the deletion date
+            LocalDate deletedOn = updatedAt.toLocalDate();
+            if (lastDay == null || deletedOn.isBefore(lastDay)) {
+                lastDay = deletedOn;
+            }
+        } else if (lastDay == null && EmployeeStatus.INACTIVE.name().equals(status)) {
+            lastDay = updatedAt.toLocalDate();
+        }
+        // A last day before the hire date would count an exit before the hire
+        return lastDay != null && lastDay.isBefore(hireDate) ? hireDate : lastDay;
+    }
+    
+    /**
+     * Growable array of epoch days, sorted once after loading and then scanned with a cursor.
+     */
+    private static final class DayList {
+        
+        private int[] days = new int[1024];
+        private int size;
+        
+        void add(LocalDate date) {
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+            }
+            days[size++] = (int) date.toEpochDay();
+        }
+        
+        void sort() {
+            Arrays.sort(days, 0, size);
+        }
+        
+        /**
+         * Number of days before {@code bound}, scanning forward from {@code from}, a count already
+         * known to be before it.
+         */
+        int countBefore(long bound, int from) {
+            int i = from;
+            while (i < size && days[i] < bound) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
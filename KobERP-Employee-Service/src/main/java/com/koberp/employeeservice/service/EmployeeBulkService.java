@@ -0,0 +1,219 @@
+package com.koberp.employeeservice.service;
+
+import com.koberp.employeeservice.cache.EmployeeUniquenessFilter;
+import com.koberp.employeeservice.dto.BulkCreateResponse;
+import com.koberp.employeeservice.dto.BulkEmployeeRequest;
+import com.koberp.employeeservice.dto.BulkRowResult;
+import com.koberp.employeeservice.dto.BulkUpdateResponse;
+import com.koberp.employeeservice.dto.EmployeeRequest;
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.exception.DatabaseErrors;
+import com.koberp.employeeservice.exception.InvalidRequestException;
+import com.koberp.employeeservice.mapper.EmployeeMapper;
+import com.koberp.employeeservice.model.Employee;
+import com.koberp.employeeservice.model.enums.EmployeeStatus;
+import com.koberp.employeeservice.repository.EmployeeBulkRepository;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeBulkService {
+    
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final String ROW_FAILED_MESSAGE = "The employee could not be saved";
+    
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeBulkRepository employeeBulkRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeUniquenessFilter uniquenessFilter;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${employee.bulk.batch-size:500}")
+    private int batchSize;
+    
+    /**
+     * Creates employees in fixed-size batches, each in its own transaction. Every row is validated
+     * and checked for duplicates up front with a handful of IN queries, so one bad row no longer
+     * rejects the whole import; the response reports the outcome of each row by index.
+     */
+    public BulkCreateResponse createBulkEmployees(List<EmployeeRequest> requests) {
+        log.info("Creating bulk employees, count: {}", requests.size());
+        BulkRowResult[] results = new BulkRowResult[requests.size()];
+        createRows(requests, results, 0);
+        
+        int created = (int) Arrays.stream(results).filter(BulkRowResult::isSuccess).count();
+        log.info("Bulk create finished, created: {}, failed: {}", created, requests.size() - created);
+        return BulkCreateResponse.builder()
+                .requested(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .results(Arrays.asList(results))
+                .build();
+    }
+    
+    /**
+     * Creates every row whose result slot is still empty and fills in its outcome. Rows that
+     * already have a result (e.g. unparseable import rows) are skipped. Result indexes are
+     * offset by {@code firstIndex} so callers working through a larger source in chunks can report
+     * positions in that source.
+     */
+    public void createRows(List<EmployeeRequest> requests, BulkRowResult[] results, int firstIndex) {
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = BulkRowResult.failure(firstIndex + i, error);
+            } else {
+                valid.add(i);
+            }
+        }
+        
+        Set<String> takenEmails = findExisting(valid, requests, EmployeeRequest::getEmail,
+                uniquenessFilter::mightContainEmail, employeeRepository::findExistingEmails);
+        Set<String> takenCodes = findExisting(valid, requests, EmployeeRequest::getEmployeeCode,
+                uniquenessFilter::mightContainEmployeeCode, employeeRepository::findExistingEmployeeCodes);
+        
+        List<Integer> pending = new ArrayList<>();
+        for (int i : valid) {
+            EmployeeRequest request = requests.get(i);
+            if (!takenEmails.add(request.getEmail())) {
+                results[i] = BulkRowResult.failure(firstIndex + i, "Employee with email " + request.getEmail() + " already exists");
+            } else if (request.getEmployeeCode() != null && !request.getEmployeeCode().isEmpty()
+                    && !takenCodes.add(request.getEmployeeCode())) {
+                results[i] = BulkRowResult.failure(firstIndex + i, "Employee with code " + request.getEmployeeCode() + " already exists");
+            } else {
+                pending.add(i);
+            }
+        }
+        
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<Integer> batch = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            try {
+                insertBatch(batch, requests, results, firstIndex);
+            } catch (RuntimeException ex) {
+                // A row raced with a concurrent insert; retry one by one to isolate it
+                log.warn("Bulk insert batch failed, retrying {} rows individually", batch.size(), ex);
+                for (int i : batch) {
+                    try {
+                        insertBatch(List.of(i), requests, results, firstIndex);
+                    } catch (RuntimeException rowEx) {
+                        log.warn("Bulk insert of row {} failed", firstIndex + i, rowEx);
+                        results[i] = BulkRowResult.failure(firstIndex + i, DatabaseErrors.isUniqueViolation(rowEx)
+                                ? DatabaseErrors.DUPLICATE_EMPLOYEE_MESSAGE : ROW_FAILED_MESSAGE);
+                    }
+                }
+            }
+        }
+    }
+    
+    @Transactional
+    public BulkUpdateResponse deleteEmployees(BulkEmployeeRequest filter) {
+        requireCriteria(filter);
+        log.info("Bulk soft deleting employees matching {}", filter);
+        List<EmployeeSnapshot> deleted = employeeBulkRepository.softDelete(filter);
+        deleted.forEach(before -> eventPublisher.publishEvent(EmployeeChangedEvent.deleted(before)));
+        log.info("Bulk soft deleted {} employees", deleted.size());
+        return toUpdateResponse(deleted);
+    }
+    
+    @Transactional
+    public BulkUpdateResponse updateStatus(BulkEmployeeRequest filter, EmployeeStatus status) {
+        requireCriteria(filter);
+        log.info("Bulk updating status to {} for employees matching {}", status, filter);
+        List<EmployeeSnapshot> updated = employeeBulkRepository.updateStatus(filter, status.name());
+        updated.forEach(before -> eventPublisher.publishEvent(
+                EmployeeChangedEvent.updated(before, before.withStatus(status.name()))));
+        log.info("Bulk updated status of {} employees", updated.size());
+        return toUpdateResponse(updated);
+    }
+    
+    private void requireCriteria(BulkEmployeeRequest filter) {
+        if (filter == null || !filter.hasCriteria()) {
+            throw new InvalidRequestException("At least one of ids, departmentId, position or currentStatus is required");
+        }
+        if (filter.getCurrentStatus() != null) {
+            filter.setCurrentStatus(EmployeeStatus.of(filter.getCurrentStatus()).name());
+        }
+    }
+    
+    private BulkUpdateResponse toUpdateResponse(List<EmployeeSnapshot> snapshots) {
+        return BulkUpdateResponse.builder()
+                .affected(snapshots.size())
+                .ids(snapshots.stream().map(EmployeeSnapshot::getId).collect(Collectors.toList()))
+                .build();
+    }
+    
+    private void insertBatch(List<Integer> batch, List<EmployeeRequest> requests, BulkRowResult[] results,
+                             int firstIndex) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Employee> employees = batch.stream()
+                    .map(i -> employeeMapper.toEntity(requests.get(i)))
+                    .collect(Collectors.toList());
+            employeeRepository.saveAll(employees);
+            entityManager.flush();
+            for (int j = 0; j < batch.size(); j++) {
+                Employee employee = employees.get(j);
+                results[batch.get(j)] = BulkRowResult.success(firstIndex + batch.get(j), employee.getId(), employee.getEmployeeCode());
+                eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeSnapshot.of(employee)));
+            }
+            entityManager.clear();
+        });
+    }
+    
+    private String validate(EmployeeRequest request) {
+        Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+    
+    private Set<String> findExisting(List<Integer> rows, List<EmployeeRequest> requests,
+                                     Function<EmployeeRequest, String> key,
+                                     Predicate<String> mightExist,
+                                     Function<Collection<String>, List<String>> lookup) {
+        // Values the Bloom filter rules out are known to be free and never reach the IN query
+        List<String> values = rows.stream()
+                .map(i -> key.apply(requests.get(i)))
+                .filter(value -> value != null && !value.isEmpty())
+                .distinct()
+                .filter(mightExist)
+                .collect(Collectors.toList());
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < values.size(); from += LOOKUP_CHUNK_SIZE) {
+            existing.addAll(lookup.apply(values.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, values.size()))));
+        }
+        return existing;
+    }
+}
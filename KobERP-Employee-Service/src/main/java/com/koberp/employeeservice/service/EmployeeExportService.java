@@ -0,0 +1,133 @@
+package com.koberp.employeeservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.koberp.employeeservice.exception.InvalidRequestException;
+import com.koberp.employeeservice.projection.EmployeeProjection;
+import com.koberp.employeeservice.repository.EmployeeProjectionRepository;
+import com.koberp.employeeservice.repository.EmployeeProjectionRepository.Filter;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Full employee exports. Rows are read through a database cursor and written to the response as
+ * they arrive, so heap use is bounded by the fetch size and output buffer, not the row count.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeExportService {
+    
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+        
+        private final String contentType;
+        private final String extension;
+        
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public String getContentType() {
+            return contentType;
+        }
+        
+        public String getFileName() {
+            return "employees." + extension;
+        }
+        
+        public static Format of(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unsupported export format '" + name + "', expected csv or ndjson");
+            }
+        }
+    }
+    
+    private final EmployeeProjectionRepository employeeProjectionRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${employee.export.fetch-size:1000}")
+    private int fetchSize;
+    
+    /**
+     * Parses {@code fields} up front so a bad field name fails the request before the response is
+     * committed; all fields are exported when it is blank.
+     */
+    public EmployeeProjection projection(String fields) {
+        return fields == null || fields.isBlank() ? EmployeeProjection.all() : EmployeeProjection.of(fields);
+    }
+    
+    @Transactional(readOnly = true)
+    public void export(Format format, EmployeeProjection projection, Map<Filter, Object> filters, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        long rows;
+        try (Stream<Tuple> stream = employeeProjectionRepository.stream(projection, filters, fetchSize)) {
+            rows = format == Format.CSV
+                    ? writeCsv(stream.iterator(), projection, out)
+                    : writeNdjson(stream.iterator(), projection, out);
+        }
+        log.info("Exported {} employees as {} matching {} in {} ms", rows, format, filters.keySet(),
+                System.currentTimeMillis() - start);
+    }
+    
+    private long writeCsv(Iterator<Tuple> rows, EmployeeProjection projection, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        CSVPrinter printer = new CSVPrinter(writer, CSVFormat.RFC4180);
+        for (int i = 0; i < projection.getFieldCount(); i++) {
+            printer.print(projection.getFieldName(i));
+        }
+        printer.println();
+        long count = 0;
+        while (rows.hasNext()) {
+            Tuple row = rows.next();
+            for (int i = 0; i < projection.getFieldCount(); i++) {
+                Object value = projection.getValue(row, i);
+                printer.print(value instanceof BigDecimal number ? number.toPlainString() : value);
+            }
+            printer.println();
+            count++;
+        }
+        printer.flush();
+        return count;
+    }
+    
+    private long writeNdjson(Iterator<Tuple> rows, EmployeeProjection projection, OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+        // Not closed: the servlet container owns the response stream
+        JsonGenerator gen = objectMapper.getFactory().createGenerator(writer);
+        gen.setRootValueSeparator(null);
+        long count = 0;
+        while (rows.hasNext()) {
+            projection.write(rows.next(), gen, provider);
+            gen.writeRaw('\n');
+            count++;
+        }
+        gen.flush();
+        return count;
+    }
+}
@@ -0,0 +1,66 @@
+package com.koberp.employeeservice.service;
+
+import com.koberp.employeeservice.dto.EmployeeHistoryEntry;
+import com.koberp.employeeservice.dto.HeadcountStats;
+import com.koberp.employeeservice.dto.OrgSnapshotResponse;
+import com.koberp.employeeservice.exception.ResourceNotFoundException;
+import com.koberp.employeeservice.repository.EmployeeHistoryRepository;
+import com.koberp.employeeservice.repository.EmployeeHistoryRepository.DepartmentHeadcount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Point-in-time views of the organisation, read from the append-only {@code employee_history}
+ * table. A date means the state at the end of that day.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeHistoryService {
+    
+    private final EmployeeHistoryRepository historyRepository;
+    
+    public List<EmployeeHistoryEntry> getHistory(Long employeeId) {
+        List<EmployeeHistoryEntry> history = historyRepository.findByEmployee(employeeId);
+        if (history.isEmpty()) {
+            throw new ResourceNotFoundException("No history found for employee id: " + employeeId);
+        }
+        return history;
+    }
+    
+    public List<EmployeeHistoryEntry> getEmployeesAsOf(LocalDate date, String departmentId) {
+        log.info("Fetching employees as of {} in department: {}", date, departmentId);
+        return historyRepository.findStateBefore(endOf(date), departmentId);
+    }
+    
+    public OrgSnapshotResponse getOrgSnapshot(LocalDate date) {
+        long start = System.currentTimeMillis();
+        HeadcountStats overall = HeadcountStats.builder().payroll(BigDecimal.ZERO).build();
+        Map<String, HeadcountStats> byDepartment = new TreeMap<>();
+        for (DepartmentHeadcount row : historyRepository.getHeadcountStatsBefore(endOf(date))) {
+            if (row.departmentId() == null) {
+                overall = row.stats();
+            } else {
+                byDepartment.put(row.departmentId(), row.stats());
+            }
+        }
+        log.info("Org snapshot as of {} computed in {} ms", date, System.currentTimeMillis() - start);
+        return OrgSnapshotResponse.builder()
+                .asOf(date)
+                .overall(overall)
+                .byDepartment(byDepartment)
+                .build();
+    }
+    
+    private static LocalDateTime endOf(LocalDate date) {
+        return date.plusDays(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,209 @@
+package com.koberp.employeeservice.service;
+
+import com.koberp.employeeservice.dto.BulkRowResult;
+import com.koberp.employeeservice.dto.EmployeeImportResponse;
+import com.koberp.employeeservice.dto.EmployeeRequest;
+import com.koberp.employeeservice.exception.InvalidRequestException;
+import com.koberp.employeeservice.exception.ResourceNotFoundException;
+import com.koberp.employeeservice.importer.EmployeeImportFormat;
+import com.koberp.employeeservice.importer.EmployeeImportJob;
+import com.koberp.employeeservice.importer.EmployeeRowMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Spreadsheet imports of employees. The upload is copied to a temp file and imported in the
+ * background: rows are streamed from the file, mapped and validated, and written through
+ * {@link EmployeeBulkService#createRows} one batch at a time, so memory use is bounded by the batch
+ * size rather than the file. Callers poll the returned job for progress.
+ */
+@Service
+@Slf4j
+public class EmployeeImportService {
+    
+    private final EmployeeBulkService employeeBulkService;
+    private final ThreadPoolTaskExecutor importExecutor;
+    private final Map<String, EmployeeImportJob> jobs = new ConcurrentHashMap<>();
+    
+    @Value("${employee.bulk.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${employee.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+    
+    @Value("${employee.import.retention-ms:86400000}")
+    private long retentionMs;
+    
+    public EmployeeImportService(EmployeeBulkService employeeBulkService,
+                                 @Value("${employee.import.concurrency:2}") int concurrency,
+                                 @Value("${employee.import.queue-capacity:10}") int queueCapacity) {
+        this.employeeBulkService = employeeBulkService;
+        // Each import already writes in large batches; extra uploads wait in a short queue
+        this.importExecutor = new ThreadPoolTaskExecutor();
+        importExecutor.setCorePoolSize(concurrency);
+        importExecutor.setMaxPoolSize(concurrency);
+        importExecutor.setQueueCapacity(queueCapacity);
+        importExecutor.setThreadNamePrefix("employee-import-");
+        importExecutor.initialize();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        importExecutor.shutdown();
+    }
+    
+    public EmployeeImportResponse startImport(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestException("Import file is required");
+        }
+        EmployeeImportFormat format = EmployeeImportFormat.fromFileName(file.getOriginalFilename());
+        Path copy;
+        try {
+            // The multipart temp file is deleted when the request ends
+            copy = Files.createTempFile("employee-import-", "." + format.name().toLowerCase(Locale.ROOT));
+            file.transferTo(copy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store import file", e);
+        }
+        
+        EmployeeImportJob job = new EmployeeImportJob(file.getOriginalFilename(), format, maxReportedErrors);
+        jobs.put(job.getId(), job);
+        try {
+            importExecutor.execute(() -> run(job, copy, format));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(copy);
+            throw e;
+        }
+        log.info("Queued employee import {} for file {} ({} bytes)", job.getId(), file.getOriginalFilename(), file.getSize());
+        return job.toResponse();
+    }
+    
+    public EmployeeImportResponse getImport(String id) {
+        EmployeeImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import not found with id: " + id);
+        }
+        return job.toResponse();
+    }
+    
+    @Scheduled(fixedDelay = 3600000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(retentionMs));
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+    
+    private void run(EmployeeImportJob job, Path file, EmployeeImportFormat format) {
+        long start = System.currentTimeMillis();
+        job.start();
+        try {
+            ChunkWriter writer = new ChunkWriter(job);
+            format.getReader().read(file, writer);
+            writer.finish();
+            job.complete();
+            EmployeeImportResponse result = job.toResponse();
+            log.info("Employee import {} finished, processed: {}, created: {}, failed: {} in {} ms",
+                    job.getId(), result.getProcessed(), result.getCreated(), result.getFailed(),
+                    System.currentTimeMillis() - start);
+        } catch (InvalidRequestException e) {
+            log.warn("Employee import {} rejected: {}", job.getId(), e.getMessage());
+            job.fail(e.getMessage());
+        } catch (Exception e) {
+            log.error("Employee import {} failed", job.getId(), e);
+            job.fail("Import failed: " + e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+    
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+    
+    /**
+     * Receives rows from the reader and writes them in batches. Holds at most one batch of
+     * requests; results carry the spreadsheet row number (header is row 1).
+     */
+    private final class ChunkWriter implements Consumer<List<String>> {
+        
+        private final EmployeeImportJob job;
+        private final List<EmployeeRequest> requests = new ArrayList<>(batchSize);
+        private final BulkRowResult[] results = new BulkRowResult[batchSize];
+        private final int[] rowNumbers = new int[batchSize];
+        private EmployeeRowMapper mapper;
+        private int rowNumber;
+        
+        ChunkWriter(EmployeeImportJob job) {
+            this.job = job;
+        }
+        
+        @Override
+        public void accept(List<String> row) {
+            rowNumber++;
+            if (mapper == null) {
+                if (!EmployeeRowMapper.isBlank(row)) {
+                    mapper = new EmployeeRowMapper(row);
+                }
+                return;
+            }
+            if (EmployeeRowMapper.isBlank(row)) {
+                return;
+            }
+            int slot = requests.size();
+            rowNumbers[slot] = rowNumber;
+            try {
+                requests.add(mapper.map(row));
+            } catch (InvalidRequestException e) {
+                requests.add(null);
+                results[slot] = BulkRowResult.failure(rowNumber, e.getMessage());
+            }
+            if (requests.size() == batchSize) {
+                flush();
+            }
+        }
+        
+        void finish() {
+            if (mapper == null) {
+                throw new InvalidRequestException("Import file has no header row");
+            }
+            flush();
+        }
+        
+        private void flush() {
+            if (requests.isEmpty()) {
+                return;
+            }
+            employeeBulkService.createRows(requests, results, 0);
+            for (int i = 0; i < requests.size(); i++) {
+                results[i].setIndex(rowNumbers[i]);
+            }
+            job.record(results, requests.size());
+            requests.clear();
+            Arrays.fill(results, null);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.koberp.employeeservice.service;
+
+import com.koberp.employeeservice.dto.EmployeeNotificationResponse;
+import com.koberp.employeeservice.exception.InvalidRequestException;
+import com.koberp.employeeservice.model.enums.NotificationType;
+import com.koberp.employeeservice.repository.EmployeeNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeNotificationService {
+    
+    private final EmployeeNotificationRepository notificationRepository;
+    
+    public List<EmployeeNotificationResponse> getNotifications(String type, long afterId, int limit) {
+        NotificationType notificationType = null;
+        if (type != null && !type.isBlank()) {
+            try {
+                notificationType = NotificationType.valueOf(type.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unknown notification type: " + type);
+            }
+        }
+        return notificationRepository.findAfter(notificationType, afterId, limit);
+    }
+}
@@ -1,25 +1,46 @@
 package com.koberp.employeeservice.service;
 
+import com.koberp.employeeservice.cache.EmployeeCounters;
+import com.koberp.employeeservice.cache.EmployeeDictionaries;
+import com.koberp.employeeservice.cache.EmployeeResponseCache;
+import com.koberp.employeeservice.cache.EmployeeSuggestIndex;
+import com.koberp.employeeservice.cache.EmployeeUniquenessFilter;
+import com.koberp.employeeservice.cache.SalaryDistributionCache;
+import com.koberp.employeeservice.dto.EmployeeChangesResponse;
+import com.koberp.employeeservice.dto.EmployeeLookupRequest;
+import com.koberp.employeeservice.dto.EmployeeLookupResponse;
 import com.koberp.employeeservice.dto.EmployeeRequest;
 import com.koberp.employeeservice.dto.EmployeeResponse;
+import com.koberp.employeeservice.dto.EmployeeSuggestionResponse;
+import com.koberp.employeeservice.dto.SalaryDistributionResponse;
 import com.koberp.employeeservice.dto.StatsResponse;
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
 import com.koberp.employeeservice.exception.DuplicateResourceException;
+import com.koberp.employeeservice.exception.InvalidRequestException;
 import com.koberp.employeeservice.exception.ResourceNotFoundException;
 import com.koberp.employeeservice.mapper.EmployeeMapper;
+import com.koberp.employeeservice.mapper.StatsMapper;
 import com.koberp.employeeservice.model.Employee;
+import com.koberp.employeeservice.projection.EmployeeProjection;
+import com.koberp.employeeservice.projection.ProjectedEmployees;
+import com.koberp.employeeservice.repository.EmployeeProjectionRepository;
 import com.koberp.employeeservice.repository.EmployeeRepository;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,7 +50,16 @@ import java.util.stream.Collectors;
 public class EmployeeService {
     
     private final EmployeeRepository employeeRepository;
+    private final EmployeeProjectionRepository employeeProjectionRepository;
     private final EmployeeMapper employeeMapper;
+    private final StatsMapper statsMapper;
+    private final EmployeeCounters employeeCounters;
+    private final EmployeeSuggestIndex employeeSuggestIndex;
+    private final EmployeeDictionaries employeeDictionaries;
+    private final EmployeeResponseCache employeeResponseCache;
+    private final SalaryDistributionCache salaryDistributionCache;
+    private final EmployeeUniquenessFilter uniquenessFilter;
+    private final ApplicationEventPublisher eventPublisher;
     
     public List<EmployeeResponse> getAllEmployees() {
         log.info("Fetching all employees");
@@ -38,26 +68,131 @@ public class EmployeeService {
                 .collect(Collectors.toList());
     }
     
+    // Cache hits must not open a transaction; misses load through the repository's own
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EmployeeResponse getEmployeeById(Long id) {
         log.info("Fetching employee with id: {}", id);
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
-        return employeeMapper.toResponse(employee);
+        EmployeeResponse response = employeeResponseCache.get(id,
+                key -> employeeRepository.findById(key).map(employeeMapper::toResponse).orElse(null));
+        if (response == null) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        return response;
+    }
+    
+    /**
+     * Returns employees changed after the position encoded in {@code since}, in commit-safe order.
+     * Rows written by transactions that were still running when the page was read may become
+     * visible later with a lower transaction id, so the returned token never moves past the
+     * current snapshot xmin; such rows are sent again on the next call, which clients treat as an
+     * idempotent upsert.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeChangesResponse getChanges(String since, int limit) {
+        long[] position = since == null || since.isEmpty() ? new long[] {0, 0} : decodeSyncToken(since);
+        long xmin = employeeRepository.currentSnapshotXmin();
+        List<Employee> rows = employeeRepository.findChangesAfter(position[0], position[1], since != null, limit + 1);
+        
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+        if (!rows.isEmpty()) {
+            Employee last = rows.get(rows.size() - 1);
+            if (last.getChangeTxid() < xmin) {
+                position = new long[] {last.getChangeTxid(), last.getId()};
+            } else {
+                position = new long[] {xmin - 1, Long.MAX_VALUE};
+                hasMore = false;
+            }
+        }
+        
+        List<EmployeeResponse> changed = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (Employee employee : rows) {
+            if (Boolean.TRUE.equals(employee.getDeleted())) {
+                deletedIds.add(employee.getId());
+            } else {
+                changed.add(employeeMapper.toResponse(employee));
+            }
+        }
+        return EmployeeChangesResponse.builder()
+                .changed(changed)
+                .deletedIds(deletedIds)
+                .nextToken(encodeSyncToken(position[0], position[1]))
+                .hasMore(hasMore)
+                .build();
+    }
+    
+    @Transactional(readOnly = true)
+    public ProjectedEmployees getEmployeesProjected(EmployeeProjectionRepository.Filter filter, Object value, String fields) {
+        log.info("Fetching employees by {} with fields: {}", filter, fields);
+        EmployeeProjection projection = EmployeeProjection.of(fields);
+        return ProjectedEmployees.list(projection, employeeProjectionRepository.find(projection, filter, value));
+    }
+    
+    @Transactional(readOnly = true)
+    public ProjectedEmployees getEmployeeByIdProjected(Long id, String fields) {
+        log.info("Fetching employee with id: {} and fields: {}", id, fields);
+        EmployeeProjection projection = EmployeeProjection.of(fields);
+        List<Tuple> rows = employeeProjectionRepository.find(projection, EmployeeProjectionRepository.Filter.ID, id);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        return ProjectedEmployees.single(projection, rows.get(0));
+    }
+    
+    /**
+     * Resolves many employees by id and/or employee code with a single query. Keys that match no
+     * live employee are reported back instead of failing the request.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeLookupResponse lookupEmployees(EmployeeLookupRequest request) {
+        Set<Long> ids = distinct(request.getIds());
+        Set<String> codes = distinct(request.getCodes());
+        if (ids.isEmpty() && codes.isEmpty()) {
+            throw new InvalidRequestException("At least one id or code is required");
+        }
+        String fields = request.getFields();
+        EmployeeProjection projection = fields == null || fields.isBlank() ? EmployeeProjection.all() : EmployeeProjection.of(fields);
+        List<Tuple> rows = employeeProjectionRepository.findByIdsOrCodes(projection, ids, codes);
+        
+        Set<Long> missingIds = new LinkedHashSet<>(ids);
+        Set<String> missingCodes = new LinkedHashSet<>(codes);
+        for (Tuple row : rows) {
+            missingIds.remove(row.get(EmployeeProjectionRepository.LOOKUP_ID, Long.class));
+            missingCodes.remove(row.get(EmployeeProjectionRepository.LOOKUP_CODE, String.class));
+        }
+        log.info("Looked up {} ids and {} codes, found {} employees", ids.size(), codes.size(), rows.size());
+        return EmployeeLookupResponse.builder()
+                .employees(ProjectedEmployees.list(projection, rows))
+                .missingIds(new ArrayList<>(missingIds))
+                .missingCodes(new ArrayList<>(missingCodes))
+                .build();
+    }
+    
+    private static <T> Set<T> distinct(List<T> keys) {
+        Set<T> distinct = new LinkedHashSet<>();
+        if (keys != null) {
+            keys.stream().filter(Objects::nonNull).forEach(distinct::add);
+        }
+        return distinct;
     }
     
     public EmployeeResponse createEmployee(EmployeeRequest request) {
         log.info("Creating new employee with email: {}", request.getEmail());
         
-        if (employeeRepository.existsByEmail(request.getEmail())) {
+        if (emailExists(request.getEmail())) {
             throw new DuplicateResourceException("Employee with email " + request.getEmail() + " already exists");
         }
         
-        if (request.getEmployeeCode() != null && employeeRepository.existsByEmployeeCode(request.getEmployeeCode())) {
+        if (request.getEmployeeCode() != null && employeeCodeExists(request.getEmployeeCode())) {
             throw new DuplicateResourceException("Employee with code " + request.getEmployeeCode() + " already exists");
         }
         
         Employee employee = employeeMapper.toEntity(request);
         Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(EmployeeSnapshot.of(savedEmployee)));
         log.info("Employee created successfully with id: {}", savedEmployee.getId());
         
         return employeeMapper.toResponse(savedEmployee);
@@ -70,12 +205,14 @@ public class EmployeeService {
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
         
         if (!employee.getEmail().equals(request.getEmail()) && 
-            employeeRepository.existsByEmail(request.getEmail())) {
+            emailExists(request.getEmail())) {
             throw new DuplicateResourceException("Employee with email " + request.getEmail() + " already exists");
         }
         
+        EmployeeSnapshot before = EmployeeSnapshot.of(employee);
         employeeMapper.updateEntity(employee, request);
         Employee updatedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeSnapshot.of(updatedEmployee)));
         log.info("Employee updated successfully with id: {}", updatedEmployee.getId());
         
         return employeeMapper.toResponse(updatedEmployee);
@@ -86,6 +223,7 @@ public class EmployeeService {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
         employeeRepository.delete(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(EmployeeSnapshot.of(employee)));
         log.info("Employee deleted successfully with id: {}", id);
     }
     
@@ -96,6 +234,11 @@ public class EmployeeService {
                 .collect(Collectors.toList());
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<EmployeeSuggestionResponse> suggestEmployees(String query, int limit) {
+        return employeeSuggestIndex.suggest(query, limit);
+    }
+    
     public List<EmployeeResponse> getEmployeesByDepartment(String departmentId) {
         log.info("Fetching employees by department: {}", departmentId);
         return employeeRepository.findByDepartmentId(departmentId).stream()
@@ -117,63 +260,46 @@ public class EmployeeService {
                 .collect(Collectors.toList());
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StatsResponse getEmployeeStats() {
         log.info("Fetching employee statistics");
-        
-        Long total = employeeRepository.count();
-        Long active = employeeRepository.countByStatus("ACTIVE");
-        Long inactive = employeeRepository.countByStatus("INACTIVE");
-        Long onLeave = employeeRepository.countByStatus("ON_LEAVE");
-        
-        Map<String, Long> deptDistribution = new HashMap<>();
-        List<Object[]> deptData = employeeRepository.getDepartmentDistribution();
-        for (Object[] data : deptData) {
-            deptDistribution.put(String.valueOf(data[0]), (Long) data[1]);
+        if (employeeCounters.isSeeded()) {
+            return employeeCounters.toStatsResponse();
         }
-        
-        Double avgSalaryDouble = employeeRepository.getAverageSalary();
-        BigDecimal avgSalary = avgSalaryDouble != null ? 
-                BigDecimal.valueOf(avgSalaryDouble).setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
-        
-        List<Employee> allEmployees = employeeRepository.findAll();
-        Double avgYearsOfService = allEmployees.stream()
-                .filter(e -> e.getHireDate() != null)
-                .mapToLong(e -> ChronoUnit.YEARS.between(e.getHireDate(), LocalDate.now()))
-                .average()
-                .orElse(0.0);
-        
-        Long newHires = employeeRepository.countNewHiresInMonth(LocalDate.now());
-        
-        return StatsResponse.builder()
-                .totalEmployees(total)
-                .activeEmployees(active)
-                .inactiveEmployees(inactive)
-                .onLeaveEmployees(onLeave)
-                .departmentDistribution(deptDistribution)
-                .averageSalary(avgSalary)
-                .averageYearsOfService(Math.round(avgYearsOfService * 100.0) / 100.0)
-                .newHiresThisMonth(newHires)
-                .build();
+        return statsMapper.toResponse(employeeRepository.getEmployeeStatsRows());
+    }
+    
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SalaryDistributionResponse getSalaryDistribution() {
+        return salaryDistributionCache.get();
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long getEmployeeCount() {
+        if (employeeCounters.isSeeded()) {
+            return employeeCounters.getTotal();
+        }
         return employeeRepository.count();
     }
     
-    public List<String> getAllDepartments() {
-        return employeeRepository.findAllDepartmentIds();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmployeeDictionaries.Dictionary getAllDepartments() {
+        return employeeDictionaries.getDepartments();
     }
     
-    public List<String> getAllPositions() {
-        return employeeRepository.findAllPositions();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmployeeDictionaries.Dictionary getAllPositions() {
+        return employeeDictionaries.getPositions();
     }
     
     public EmployeeResponse updateEmployeeStatus(Long id, String status) {
         log.info("Updating status for employee id: {} to {}", id, status);
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        EmployeeSnapshot before = EmployeeSnapshot.of(employee);
         employee.setStatus(status);
         Employee updatedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, EmployeeSnapshot.of(updatedEmployee)));
         return employeeMapper.toResponse(updatedEmployee);
     }
     
@@ -185,15 +311,39 @@ public class EmployeeService {
         return updateEmployeeStatus(id, "INACTIVE");
     }
     
-    public List<EmployeeResponse> createBulkEmployees(List<EmployeeRequest> requests) {
-        log.info("Creating bulk employees, count: {}", requests.size());
-        return requests.stream()
-                .map(this::createEmployee)
-                .collect(Collectors.toList());
+    private static String encodeSyncToken(long txid, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((txid + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private static long[] decodeSyncToken(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII).split(":");
+            return new long[] {Long.parseLong(parts[0]), Long.parseLong(parts[1])};
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid sync token: " + token);
+        }
     }
     
-    public void deleteBulkEmployees(List<Long> ids) {
-        log.info("Deleting bulk employees, count: {}", ids.size());
-        ids.forEach(this::deleteEmployee);
+    private boolean emailExists(String email) {
+        if (!uniquenessFilter.mightContainEmail(email)) {
+            return false;
+        }
+        if (employeeRepository.existsByEmail(email)) {
+            return true;
+        }
+        uniquenessFilter.recordFalsePositive();
+        return false;
+    }
+    
+    private boolean employeeCodeExists(String employeeCode) {
+        if (!uniquenessFilter.mightContainEmployeeCode(employeeCode)) {
+            return false;
+        }
+        if (employeeRepository.existsByEmployeeCode(employeeCode)) {
+            return true;
+        }
+        uniquenessFilter.recordFalsePositive();
+        return false;
     }
 }
@@ -0,0 +1,84 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.mapper.StatsMapper;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeCountersTest {
+    
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final EmployeeCounters counters = new EmployeeCounters(employeeRepository, new StatsMapper());
+    
+    private final EmployeeSnapshot alice = snapshot(1L, "ACTIVE", "1000.00");
+    private final EmployeeSnapshot bob = snapshot(2L, "ACTIVE", "2000.00");
+    
+    @BeforeEach
+    void seedWithAlice() {
+        when(employeeRepository.findAllSnapshots()).thenReturn(List.of(alice));
+        counters.seed();
+    }
+    
+    @Test
+    void eventAlreadySeenByReseedIsNotCountedTwice() {
+        // Bob's create commits before the reseed query runs, so the query already returns him
+        when(employeeRepository.findAllSnapshots()).thenAnswer(invocation -> {
+            counters.onEmployeeChanged(EmployeeChangedEvent.created(bob));
+            return List.of(alice, bob);
+        });
+        
+        counters.seed();
+        
+        assertThat(counters.getTotal()).isEqualTo(2);
+        assertThat(counters.toStatsResponse().getAverageSalary()).isEqualByComparingTo("1500.00");
+    }
+    
+    @Test
+    void eventMissedByReseedIsReplayed() {
+        // Alice's status change commits after the reseed query read her row
+        EmployeeSnapshot aliceOnLeave = alice.withStatus("ON_LEAVE");
+        when(employeeRepository.findAllSnapshots()).thenAnswer(invocation -> {
+            List<EmployeeSnapshot> rows = new ArrayList<>(List.of(alice));
+            counters.onEmployeeChanged(EmployeeChangedEvent.updated(alice, aliceOnLeave));
+            counters.onEmployeeChanged(EmployeeChangedEvent.created(bob));
+            return rows;
+        });
+        
+        counters.seed();
+        
+        assertThat(counters.getTotal()).isEqualTo(2);
+        assertThat(counters.toStatsResponse().getActiveEmployees()).isEqualTo(1);
+        assertThat(counters.toStatsResponse().getOnLeaveEmployees()).isEqualTo(1);
+        assertThat(counters.toStatsResponse().getAverageSalary()).isEqualByComparingTo("1500.00");
+    }
+    
+    @Test
+    void deleteMissedByReseedIsReplayed() {
+        when(employeeRepository.findAllSnapshots()).thenAnswer(invocation -> {
+            List<EmployeeSnapshot> rows = List.of(alice);
+            counters.onEmployeeChanged(EmployeeChangedEvent.deleted(alice));
+            return rows;
+        });
+        
+        counters.seed();
+        
+        assertThat(counters.getTotal()).isZero();
+        assertThat(counters.toStatsResponse().getAverageSalary()).isEqualByComparingTo("0");
+    }
+    
+    private static EmployeeSnapshot snapshot(Long id, String status, String salary) {
+        return new EmployeeSnapshot(id, "EMP" + id, "First" + id, "Last" + id, "e" + id + "@example.com",
+                "IT", "Engineer", status, new BigDecimal(salary), LocalDate.of(2020, 1, 15));
+    }
+}
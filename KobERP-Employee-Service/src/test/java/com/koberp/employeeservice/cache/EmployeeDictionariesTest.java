@@ -0,0 +1,102 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeDictionariesTest {
+    
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmployeeDictionaries dictionaries = new EmployeeDictionaries(employeeRepository, meterRegistry);
+    
+    private final EmployeeSnapshot alice = snapshot(1L, "IT", "Engineer");
+    
+    @Test
+    void etagDependsOnlyOnTheValues() {
+        when(employeeRepository.findAllDepartmentIds()).thenReturn(List.of("HR", "IT"));
+        when(employeeRepository.findAllPositions()).thenReturn(List.of("HR", "IT"));
+        // A second instance stands in for a restart or another replica
+        EmployeeDictionaries restarted = new EmployeeDictionaries(employeeRepository, new SimpleMeterRegistry());
+        
+        String etag = dictionaries.getDepartments().getEtag();
+        
+        assertThat(etag).matches("\"[0-9a-f]{32}\"");
+        assertThat(restarted.getDepartments().getEtag()).isEqualTo(etag);
+        assertThat(dictionaries.getPositions().getEtag()).isEqualTo(etag);
+        when(employeeRepository.findAllDepartmentIds()).thenReturn(List.of("HR", "IT", "Sales"));
+        assertThat(new EmployeeDictionaries(employeeRepository, new SimpleMeterRegistry()).getDepartments().getEtag())
+                .isNotEqualTo(etag);
+        // Values are delimited, so regrouping the same characters changes the tag
+        when(employeeRepository.findAllDepartmentIds()).thenReturn(List.of("H", "RIT"));
+        assertThat(new EmployeeDictionaries(employeeRepository, new SimpleMeterRegistry()).getDepartments().getEtag())
+                .isNotEqualTo(etag);
+    }
+    
+    @Test
+    void changesThatCannotAlterAListKeepItCached() {
+        when(employeeRepository.findAllDepartmentIds()).thenReturn(List.of("HR", "IT"));
+        String etag = dictionaries.getDepartments().getEtag();
+        
+        dictionaries.onEmployeeChanged(EmployeeChangedEvent.updated(alice, alice.withStatus("ON_LEAVE")));
+        dictionaries.onEmployeeChanged(EmployeeChangedEvent.updated(alice, alice.withPosition("Manager")));
+        dictionaries.onEmployeeChanged(EmployeeChangedEvent.created(snapshot(2L, "HR", "Recruiter")));
+        
+        assertThat(dictionaries.getDepartments().getEtag()).isEqualTo(etag);
+        assertThat(loads("departments")).isEqualTo(1);
+    }
+    
+    @Test
+    void changesThatMayAlterAListReloadIt() {
+        when(employeeRepository.findAllDepartmentIds()).thenReturn(List.of("HR", "IT"));
+        String etag = dictionaries.getDepartments().getEtag();
+        
+        when(employeeRepository.findAllDepartmentIds()).thenReturn(List.of("HR", "IT", "Sales"));
+        dictionaries.onEmployeeChanged(EmployeeChangedEvent.created(snapshot(2L, "Sales", "Engineer")));
+        String afterCreate = dictionaries.getDepartments().getEtag();
+        when(employeeRepository.findAllDepartmentIds()).thenReturn(List.of("HR", "Sales"));
+        dictionaries.onEmployeeChanged(EmployeeChangedEvent.updated(alice, alice.withDepartmentId("HR")));
+        String afterMove = dictionaries.getDepartments().getEtag();
+        dictionaries.onEmployeeChanged(EmployeeChangedEvent.deleted(alice));
+        dictionaries.getDepartments();
+        
+        assertThat(afterCreate).isNotEqualTo(etag);
+        assertThat(afterMove).isNotIn(etag, afterCreate);
+        assertThat(loads("departments")).isEqualTo(4);
+    }
+    
+    @Test
+    void loadOverlappingAnInvalidationIsNotCached() {
+        // The change commits while the list is being read
+        when(employeeRepository.findAllDepartmentIds()).thenAnswer(invocation -> {
+            dictionaries.onEmployeeChanged(EmployeeChangedEvent.deleted(alice));
+            return List.of("IT");
+        });
+        dictionaries.getDepartments();
+        when(employeeRepository.findAllDepartmentIds()).thenReturn(List.of("HR"));
+        
+        assertThat(dictionaries.getDepartments().getValues()).containsExactly("HR");
+        assertThat(dictionaries.getDepartments().getValues()).containsExactly("HR");
+        assertThat(loads("departments")).isEqualTo(2);
+    }
+    
+    private double loads(String dictionary) {
+        return meterRegistry.get("employee.dictionary.loads").tag("dictionary", dictionary).counter().count();
+    }
+    
+    private static EmployeeSnapshot snapshot(Long id, String departmentId, String position) {
+        return new EmployeeSnapshot(id, "EMP" + id, "First" + id, "Last" + id, "e" + id + "@example.com",
+                departmentId, position, "ACTIVE", new BigDecimal("1000.00"), LocalDate.of(2020, 1, 15));
+    }
+}
@@ -0,0 +1,141 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.dto.EmployeeResponse;
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.Driver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig
+class EmployeeResponseCacheTest {
+    
+    @Configuration
+    @EnableTransactionManagement
+    @Import(EmployeeResponseCache.class)
+    static class Config {
+        
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+        
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new DataSourceTransactionManager(
+                    new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:response-cache;DB_CLOSE_DELAY=-1"));
+        }
+    }
+    
+    @Autowired
+    private EmployeeResponseCache cache;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private final AtomicInteger loads = new AtomicInteger();
+    
+    @Test
+    void entryIsDroppedOnlyOnceTheWriteCommits() {
+        long id = 1;
+        cache.get(id, this::load);
+        
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(changed(id));
+            cache.get(id, this::load);
+            assertThat(loads).as("still cached before commit").hasValue(1);
+        });
+        cache.get(id, this::load);
+        
+        assertThat(loads).hasValue(2);
+    }
+    
+    @Test
+    void rolledBackWriteKeepsTheEntry() {
+        long id = 2;
+        cache.get(id, this::load);
+        
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(changed(id));
+            status.setRollbackOnly();
+        });
+        cache.get(id, this::load);
+        
+        assertThat(loads).hasValue(1);
+    }
+    
+    @Test
+    void loadInFlightDuringCommitIsNotLeftInTheCache() throws Exception {
+        long id = 3;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // The load read the row before the write committed
+        CompletableFuture<EmployeeResponse> staleLoad = CompletableFuture.supplyAsync(() -> cache.get(id, key -> {
+            loading.countDown();
+            await(release);
+            return response(key, "stale");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> commit = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                        eventPublisher.publishEvent(changed(id))));
+        
+        Thread.sleep(200);
+        assertThat(commit).as("invalidation waits for the load").isNotDone();
+        release.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+        commit.get(5, TimeUnit.SECONDS);
+        
+        assertThat(cache.get(id, key -> response(key, "fresh")).getPosition()).isEqualTo("fresh");
+    }
+    
+    private EmployeeResponse load(Long id) {
+        loads.incrementAndGet();
+        return response(id, "Engineer");
+    }
+    
+    private static EmployeeResponse response(Long id, String position) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(id);
+        response.setPosition(position);
+        return response;
+    }
+    
+    private static EmployeeChangedEvent changed(long id) {
+        EmployeeSnapshot before = new EmployeeSnapshot(id, "EMP" + id, "First", "Last", "e" + id + "@example.com",
+                "IT", "Engineer", "ACTIVE", new BigDecimal("1000.00"), LocalDate.of(2020, 1, 15));
+        return EmployeeChangedEvent.updated(before, before.withPosition("Manager"));
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
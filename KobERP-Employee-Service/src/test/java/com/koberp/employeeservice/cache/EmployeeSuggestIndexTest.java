@@ -0,0 +1,97 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.dto.EmployeeSuggestionResponse;
+import com.koberp.employeeservice.event.EmployeeChangedEvent;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeSuggestIndexTest {
+    
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final EmployeeSuggestIndex index = new EmployeeSuggestIndex(employeeRepository, new SimpleMeterRegistry());
+    
+    private final EmployeeSnapshot ayse = snapshot(1L, "Ayse", "Yilmaz");
+    private final EmployeeSnapshot ahmet = snapshot(2L, "Ahmet", "Kaya");
+    private final EmployeeSnapshot mehmet = snapshot(3L, "Mehmet", "Yildiz");
+    
+    @BeforeEach
+    void load() {
+        when(employeeRepository.findAllSnapshots()).thenReturn(List.of(ayse, ahmet, mehmet));
+        index.load();
+    }
+    
+    @Test
+    void matchesPrefixesOfNameLastNameEmailAndCode() {
+        assertThat(ids(index.suggest("a", 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.suggest("YILM", 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("yil", 10))).containsExactly(3L, 1L);
+        assertThat(ids(index.suggest("e3@", 10))).containsExactly(3L);
+        assertThat(ids(index.suggest("emp2", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("a", 1))).hasSize(1);
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+    
+    @Test
+    void updatesAndDeletesReplaceOldTerms() {
+        index.onEmployeeChanged(EmployeeChangedEvent.updated(ahmet, ahmet.withLastName("Demir")));
+        index.onEmployeeChanged(EmployeeChangedEvent.deleted(mehmet));
+        
+        assertThat(index.suggest("kaya", 10)).isEmpty();
+        assertThat(index.suggest("demir", 10)).extracting(EmployeeSuggestionResponse::getFullName)
+                .containsExactly("Ahmet Demir");
+        assertThat(index.suggest("mehmet", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+    
+    @Test
+    void changesCommittedDuringReloadAreKept() {
+        // The reload reads the old rows, then an update and a delete commit before it finishes
+        when(employeeRepository.findAllSnapshots()).thenAnswer(invocation -> {
+            index.onEmployeeChanged(EmployeeChangedEvent.updated(ahmet, ahmet.withLastName("Demir")));
+            index.onEmployeeChanged(EmployeeChangedEvent.deleted(mehmet));
+            return List.of(ayse, ahmet, mehmet);
+        });
+        
+        index.load();
+        
+        assertThat(index.suggest("kaya", 10)).isEmpty();
+        assertThat(ids(index.suggest("demir", 10))).containsExactly(2L);
+        assertThat(index.suggest("mehmet", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+    
+    @Test
+    void changesAlreadyReadByReloadAreNotUndone() {
+        EmployeeSnapshot renamed = ahmet.withLastName("Demir");
+        when(employeeRepository.findAllSnapshots()).thenAnswer(invocation -> {
+            index.onEmployeeChanged(EmployeeChangedEvent.updated(ahmet, renamed));
+            return List.of(ayse, renamed, mehmet);
+        });
+        
+        index.load();
+        
+        assertThat(index.suggest("kaya", 10)).isEmpty();
+        assertThat(ids(index.suggest("demir", 10))).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+    
+    private static List<Long> ids(List<EmployeeSuggestionResponse> suggestions) {
+        return suggestions.stream().map(EmployeeSuggestionResponse::getId).toList();
+    }
+    
+    private static EmployeeSnapshot snapshot(Long id, String firstName, String lastName) {
+        return new EmployeeSnapshot(id, "EMP" + id, firstName, lastName, "e" + id + "@example.com",
+                "IT", "Engineer", "ACTIVE", new BigDecimal("1000.00"), LocalDate.of(2020, 1, 15));
+    }
+}
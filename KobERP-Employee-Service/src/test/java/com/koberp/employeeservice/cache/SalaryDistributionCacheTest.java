@@ -0,0 +1,110 @@
+package com.koberp.employeeservice.cache;
+
+import com.koberp.employeeservice.dto.SalaryDistributionResponse;
+import com.koberp.employeeservice.dto.SalaryStats;
+import com.koberp.employeeservice.mapper.StatsMapper;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import com.koberp.employeeservice.support.PostgresTestDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SalaryDistributionCacheTest {
+    
+    @BeforeAll
+    static void requirePostgres() {
+        PostgresTestDatabase.assumeAvailable();
+    }
+    
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private long nextId;
+    
+    @BeforeEach
+    void clear() {
+        PostgresTestDatabase.clear(jdbcTemplate);
+        nextId = 1;
+    }
+    
+    @Test
+    void groupingSetRowsLandInTheirBuckets() {
+        insert("IT", "Engineer", "1000", false);
+        insert("IT", "Engineer", "2000", false);
+        // Same name as a department, so only the GROUPING flags tell the rows apart
+        insert("IT", "Sales", "3000", false);
+        insert("Sales", "Sales", "4000", false);
+        insert("Sales", "Manager", "5000", false);
+        insert("IT", "Engineer", "9000", true);
+        insert("HR", "Recruiter", null, false);
+        
+        SalaryDistributionResponse distribution = new SalaryDistributionCache(employeeRepository, new StatsMapper(),
+                new SimpleMeterRegistry()).get();
+        
+        assertThat(distribution.getByDepartment()).containsOnlyKeys("IT", "Sales");
+        assertThat(distribution.getByPosition()).containsOnlyKeys("Engineer", "Manager", "Sales");
+        assertStats(distribution.getByDepartment().get("IT"), 3, "1000", "1200", "2000", "2800", "3000", "2000");
+        assertStats(distribution.getByDepartment().get("Sales"), 2, "4000", "4100", "4500", "4900", "5000", "4500");
+        assertStats(distribution.getByPosition().get("Engineer"), 2, "1000", "1100", "1500", "1900", "2000", "1500");
+        assertStats(distribution.getByPosition().get("Sales"), 2, "3000", "3100", "3500", "3900", "4000", "3500");
+        assertStats(distribution.getByPosition().get("Manager"), 1, "5000", "5000", "5000", "5000", "5000", "5000");
+        assertStats(distribution.getOverall(), 5, "1000", "1400", "3000", "4600", "5000", "3000");
+    }
+    
+    @Test
+    void noSalariesGiveAnEmptyDistribution() {
+        insert("HR", "Recruiter", null, false);
+        
+        SalaryDistributionResponse distribution = new SalaryDistributionCache(employeeRepository, new StatsMapper(),
+                new SimpleMeterRegistry()).get();
+        
+        assertThat(distribution.getByDepartment()).isEmpty();
+        assertThat(distribution.getByPosition()).isEmpty();
+        assertThat(distribution.getOverall().getCount()).isZero();
+        assertThat(distribution.getOverall().getMedian()).isNull();
+    }
+    
+    private static void assertStats(SalaryStats stats, long count, String min, String p10, String median, String p90,
+                                    String max, String average) {
+        assertThat(stats.getCount()).isEqualTo(count);
+        assertThat(stats.getMin()).isEqualByComparingTo(min);
+        assertThat(stats.getP10()).isEqualByComparingTo(p10);
+        assertThat(stats.getMedian()).isEqualByComparingTo(median);
+        assertThat(stats.getP90()).isEqualByComparingTo(p90);
+        assertThat(stats.getMax()).isEqualByComparingTo(max);
+        assertThat(stats.getAverage()).isEqualByComparingTo(average);
+    }
+    
+    private void insert(String department, String position, String salary, boolean deleted) {
+        long id = nextId++;
+        jdbcTemplate.update("INSERT INTO employees (id, employee_id, employee_code, first_name, last_name, email, " +
+                        "position, department, salary, created_at, updated_at, deleted) " +
+                        "VALUES (?, ?, ?, 'First', 'Last', ?, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP, ?)",
+                id, "EID" + id, "EMP" + id, "e" + id + "@example.com", position, department,
+                salary == null ? null : new BigDecimal(salary), deleted);
+    }
+}
@@ -0,0 +1,28 @@
+package com.koberp.employeeservice.config;
+
+import com.koberp.employeeservice.idgen.EmployeeIdGenerator;
+import com.koberp.employeeservice.idgen.SnowflakeEmployeeIdGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdGeneratorConfigTest {
+    
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(IdGeneratorConfig.class);
+    
+    @Test
+    void startupFailsWithoutNodeId() {
+        contextRunner.run(context -> assertThat(context).hasFailed()
+                .getFailure().rootCause().hasMessageContaining("employee.id-generator.node-id is not set"));
+    }
+    
+    @Test
+    void configuredNodeIdIsUsed() {
+        contextRunner.withPropertyValues("employee.id-generator.node-id=42")
+                .run(context -> assertThat(context.getBean(EmployeeIdGenerator.class))
+                        .isInstanceOfSatisfying(SnowflakeEmployeeIdGenerator.class,
+                                generator -> assertThat(generator.getNodeId()).isEqualTo(42)));
+    }
+}
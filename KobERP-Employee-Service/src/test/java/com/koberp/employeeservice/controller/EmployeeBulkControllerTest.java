@@ -0,0 +1,108 @@
+package com.koberp.employeeservice.controller;
+
+import com.koberp.employeeservice.dto.BulkUpdateResponse;
+import com.koberp.employeeservice.exception.GlobalExceptionHandler;
+import com.koberp.employeeservice.model.enums.EmployeeStatus;
+import com.koberp.employeeservice.service.EmployeeAnalyticsService;
+import com.koberp.employeeservice.service.EmployeeBulkService;
+import com.koberp.employeeservice.service.EmployeeExportService;
+import com.koberp.employeeservice.service.EmployeeHistoryService;
+import com.koberp.employeeservice.service.EmployeeImportService;
+import com.koberp.employeeservice.service.EmployeeNotificationService;
+import com.koberp.employeeservice.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EmployeeBulkControllerTest {
+    
+    private final EmployeeBulkService employeeBulkService = mock(EmployeeBulkService.class);
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        EmployeeController controller = new EmployeeController(
+                mock(EmployeeService.class),
+                employeeBulkService,
+                mock(EmployeeImportService.class),
+                mock(EmployeeExportService.class),
+                mock(EmployeeAnalyticsService.class),
+                mock(EmployeeNotificationService.class),
+                mock(EmployeeHistoryService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+    
+    @Test
+    void unknownTargetStatusIsRejected() throws Exception {
+        mockMvc.perform(patch("/employees/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1], \"status\": \"FIRED\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported status 'FIRED', expected one of [ACTIVE, INACTIVE, ON_LEAVE]"));
+        
+        verifyNoInteractions(employeeBulkService);
+    }
+    
+    @Test
+    void targetStatusIsMatchedIgnoringCase() throws Exception {
+        when(employeeBulkService.updateStatus(any(), eq(EmployeeStatus.ON_LEAVE)))
+                .thenReturn(new BulkUpdateResponse(1, List.of(1L)));
+        
+        mockMvc.perform(patch("/employees/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1], \"status\": \"on_leave\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+    }
+    
+    @Test
+    void deleteOfUnknownIdsAffectsNothing() throws Exception {
+        when(employeeBulkService.deleteEmployees(argThat(filter -> filter.getIds().equals(List.of(998L, 999L)))))
+                .thenReturn(new BulkUpdateResponse(0, List.of()));
+        
+        mockMvc.perform(delete("/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[998, 999]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(0))
+                .andExpect(jsonPath("$.ids").isEmpty());
+    }
+    
+    @Test
+    void deleteWithNoIdsIsNoContent() throws Exception {
+        mockMvc.perform(delete("/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isNoContent());
+        
+        verifyNoInteractions(employeeBulkService);
+    }
+    
+    @Test
+    void internalIllegalArgumentExceptionIsNotAClientError() throws Exception {
+        when(employeeBulkService.updateStatus(any(), any()))
+                .thenThrow(new IllegalArgumentException("Parameter index out of range"));
+        
+        mockMvc.perform(patch("/employees/bulk/activate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1]}"))
+                .andExpect(status().isInternalServerError());
+    }
+}
@@ -0,0 +1,78 @@
+package com.koberp.employeeservice.controller;
+
+import com.koberp.employeeservice.cache.EmployeeDictionaries;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import com.koberp.employeeservice.service.EmployeeAnalyticsService;
+import com.koberp.employeeservice.service.EmployeeBulkService;
+import com.koberp.employeeservice.service.EmployeeExportService;
+import com.koberp.employeeservice.service.EmployeeHistoryService;
+import com.koberp.employeeservice.service.EmployeeImportService;
+import com.koberp.employeeservice.service.EmployeeNotificationService;
+import com.koberp.employeeservice.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EmployeeDictionaryControllerTest {
+    
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+    private EmployeeDictionaries.Dictionary departments;
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() {
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findAllDepartmentIds()).thenReturn(List.of("HR", "IT"));
+        departments = new EmployeeDictionaries(employeeRepository, new SimpleMeterRegistry()).getDepartments();
+        when(employeeService.getAllDepartments()).thenReturn(departments);
+        
+        EmployeeController controller = new EmployeeController(
+                employeeService,
+                mock(EmployeeBulkService.class),
+                mock(EmployeeImportService.class),
+                mock(EmployeeExportService.class),
+                mock(EmployeeAnalyticsService.class),
+                mock(EmployeeNotificationService.class),
+                mock(EmployeeHistoryService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+    
+    @Test
+    void listIsReturnedWithItsEtagAndMustBeRevalidated() throws Exception {
+        mockMvc.perform(get("/employees/departments"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, departments.getEtag()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$[0]").value("HR"))
+                .andExpect(jsonPath("$[1]").value("IT"));
+    }
+    
+    @Test
+    void matchingEtagIsNotModified() throws Exception {
+        mockMvc.perform(get("/employees/departments").header(HttpHeaders.IF_NONE_MATCH, departments.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, departments.getEtag()))
+                .andExpect(content().string(""));
+    }
+    
+    @Test
+    void staleEtagGetsTheList() throws Exception {
+        mockMvc.perform(get("/employees/departments").header(HttpHeaders.IF_NONE_MATCH, "\"0123456789abcdef0123456789abcdef\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, departments.getEtag()))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+}
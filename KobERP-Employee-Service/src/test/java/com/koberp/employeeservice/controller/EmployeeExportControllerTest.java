@@ -0,0 +1,79 @@
+package com.koberp.employeeservice.controller;
+
+import com.koberp.employeeservice.projection.EmployeeProjection;
+import com.koberp.employeeservice.service.EmployeeAnalyticsService;
+import com.koberp.employeeservice.service.EmployeeBulkService;
+import com.koberp.employeeservice.service.EmployeeExportService;
+import com.koberp.employeeservice.service.EmployeeHistoryService;
+import com.koberp.employeeservice.service.EmployeeImportService;
+import com.koberp.employeeservice.service.EmployeeNotificationService;
+import com.koberp.employeeservice.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EmployeeExportControllerTest {
+    
+    private static final long EXPORT_TIMEOUT_MS = 7_200_000;
+    private static final long DEFAULT_TIMEOUT_MS = 30_000;
+    
+    private final EmployeeExportService employeeExportService = mock(EmployeeExportService.class);
+    private MockMvc mockMvc;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        EmployeeController controller = new EmployeeController(
+                mock(EmployeeService.class),
+                mock(EmployeeBulkService.class),
+                mock(EmployeeImportService.class),
+                employeeExportService,
+                mock(EmployeeAnalyticsService.class),
+                mock(EmployeeNotificationService.class),
+                mock(EmployeeHistoryService.class));
+        ReflectionTestUtils.setField(controller, "exportTimeoutMs", EXPORT_TIMEOUT_MS);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setAsyncRequestTimeout(DEFAULT_TIMEOUT_MS)
+                .build();
+        
+        when(employeeExportService.projection(any())).thenReturn(EmployeeProjection.all());
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("id,firstName\n1,Ada\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(employeeExportService).export(eq(EmployeeExportService.Format.CSV), any(), any(), any());
+    }
+    
+    @Test
+    void exportRunsAsyncWithItsOwnTimeout() throws Exception {
+        MvcResult result = mockMvc.perform(get("/employees/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(EXPORT_TIMEOUT_MS);
+        
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"employees.csv\""))
+                .andExpect(content().string("id,firstName\n1,Ada\n"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.koberp.employeeservice.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+    
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/employees");
+    
+    @Test
+    void uniqueViolationIsConflictWithoutDatabaseDetail() {
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolationException(
+                violation("duplicate key value violates unique constraint \"employees_email_key\"", "23505"), request);
+        
+        assertThat(response.getStatusCode().value()).isEqualTo(409);
+        assertThat(response.getBody().getMessage()).doesNotContain("employees_email_key");
+    }
+    
+    @Test
+    void otherIntegrityViolationsAreNotConflicts() {
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolationException(
+                violation("null value in column \"first_name\" violates not-null constraint", "23502"), request);
+        
+        assertThat(response.getStatusCode().value()).isEqualTo(500);
+        assertThat(response.getBody().getMessage()).doesNotContain("first_name");
+    }
+    
+    private static DataIntegrityViolationException violation(String message, String sqlState) {
+        return new DataIntegrityViolationException("could not execute statement [" + message + "]",
+                new SQLException(message, sqlState));
+    }
+}
@@ -0,0 +1,98 @@
+package com.koberp.employeeservice.idgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeEmployeeIdGeneratorTest {
+    
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 250_000;
+    
+    @Test
+    void concurrentIdsAreUniqueAndIncreasePerThread() throws Exception {
+        SnowflakeEmployeeIdGenerator generator = new SnowflakeEmployeeIdGenerator(7);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[IDS_PER_THREAD];
+                    start.await();
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+            
+            long[] all = new long[THREADS * IDS_PER_THREAD];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get();
+                for (int i = 1; i < ids.length; i++) {
+                    assertThat(ids[i]).as("id %d of a thread", i).isGreaterThan(ids[i - 1]);
+                }
+                System.arraycopy(ids, 0, all, offset, ids.length);
+                offset += ids.length;
+            }
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                assertThat(all[i]).as("duplicate id").isNotEqualTo(all[i - 1]);
+            }
+            assertThat(all[0]).isPositive();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void frozenClockBorrowsNextMillisecondWhenSequenceIsExhausted() {
+        long now = SnowflakeEmployeeIdGenerator.EPOCH + 1_000;
+        SnowflakeEmployeeIdGenerator generator = new SnowflakeEmployeeIdGenerator(1, () -> now);
+        long previous = generator.nextId();
+        // Three times the per-millisecond sequence
+        for (int i = 0; i < 3 * 4096; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+    
+    @Test
+    void clockMovingBackwardsKeepsIdsIncreasing() {
+        AtomicLong clock = new AtomicLong(SnowflakeEmployeeIdGenerator.EPOCH + 10_000);
+        SnowflakeEmployeeIdGenerator generator = new SnowflakeEmployeeIdGenerator(1, clock::get);
+        long before = generator.nextId();
+        clock.addAndGet(-5_000);
+        assertThat(generator.nextId()).isGreaterThan(before);
+    }
+    
+    @Test
+    void sameInstantOnDifferentNodesGivesDifferentIds() {
+        long now = SnowflakeEmployeeIdGenerator.EPOCH + 1_000;
+        SnowflakeEmployeeIdGenerator first = new SnowflakeEmployeeIdGenerator(1, () -> now);
+        SnowflakeEmployeeIdGenerator second = new SnowflakeEmployeeIdGenerator(2, () -> now);
+        assertThat(first.nextId()).isNotEqualTo(second.nextId());
+    }
+    
+    @Test
+    void nodeIdOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> new SnowflakeEmployeeIdGenerator(SnowflakeEmployeeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeEmployeeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,39 @@
+package com.koberp.employeeservice.importer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRowReaderTest {
+    
+    @TempDir
+    Path dir;
+    
+    @Test
+    void quotedValuesBlankLinesAndByteOrderMarkAreHandled() throws IOException {
+        Path file = dir.resolve("employees.csv");
+        Files.writeString(file, "\uFEFFfirstName,address,salary\r\n" +
+                " Ayse ,\"Kadikoy, Istanbul\",55000\r\n" +
+                "\r\n" +
+                "Ahmet,\"Line one\nLine \"\"two\"\"\",\r\n" +
+                "Mehmet\r\n", StandardCharsets.UTF_8);
+        List<List<String>> rows = new ArrayList<>();
+        
+        new CsvRowReader().read(file, rows::add);
+        
+        assertThat(rows).containsExactly(
+                List.of("firstName", "address", "salary"),
+                List.of("Ayse", "Kadikoy, Istanbul", "55000"),
+                List.of(""),
+                List.of("Ahmet", "Line one\nLine \"two\"", ""),
+                List.of("Mehmet"));
+    }
+}
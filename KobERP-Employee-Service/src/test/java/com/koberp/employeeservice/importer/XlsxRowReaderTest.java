@@ -0,0 +1,165 @@
+package com.koberp.employeeservice.importer;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XlsxRowReaderTest {
+    
+    private static final int ROWS = 500_000;
+    private static final int SAMPLES = 10;
+    // Holding every string of this sheet on the heap, as ReadOnlySharedStringsTable does, grows it by ~75 MB
+    private static final long MAX_HEAP_GROWTH = 32L * 1024 * 1024;
+    
+    @TempDir
+    Path dir;
+    
+    @Test
+    void cellsAreReadAsPlainTextInTheirColumns() throws IOException {
+        Path file = dir.resolve("employees.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Employees");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("firstName");
+            header.createCell(1).setCellValue("hireDate");
+            header.createCell(2).setCellValue("salary");
+            header.createCell(3).setCellValue("phone");
+            Row employee = sheet.createRow(1);
+            employee.createCell(0).setCellValue(" Ayse ");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("dd.mm.yyyy"));
+            employee.createCell(1).setCellValue(LocalDate.of(2024, 3, 1));
+            employee.getCell(1).setCellStyle(dateStyle);
+            CellStyle currencyStyle = workbook.createCellStyle();
+            currencyStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00 \"TL\""));
+            employee.createCell(2).setCellValue(55000.5);
+            employee.getCell(2).setCellStyle(currencyStyle);
+            employee.createCell(3).setCellValue(905551234567d);
+            // Row 3 is left out entirely and row 4 only has its third cell
+            sheet.createRow(3).createCell(2).setCellValue("Ayse");
+            workbook.write(out);
+        }
+        List<List<String>> rows = new ArrayList<>();
+        
+        new XlsxRowReader().read(file, rows::add);
+        
+        assertThat(rows).containsExactly(
+                List.of("firstName", "hireDate", "salary", "phone"),
+                List.of("Ayse", "2024-03-01", "55000.5", "905551234567"),
+                List.of(),
+                List.of("", "", "Ayse"));
+    }
+    
+    @Test
+    void largeSheetOfUniqueStringsKeepsHeapFlat() throws IOException {
+        Path file = dir.resolve("large.xlsx");
+        writeUniqueStringsWorkbook(file, ROWS);
+        List<Path> spilledBefore = spilledStrings();
+        int sampleEvery = ROWS / SAMPLES;
+        long baseline = usedHeap();
+        long[] stats = new long[3];
+        
+        new XlsxRowReader().read(file, row -> {
+            long rowNumber = ++stats[0];
+            if (rowNumber == ROWS + 1) {
+                assertThat(row).containsExactly("employee" + (ROWS - 1) + "@example.com", "EMP" + (ROWS - 1));
+            }
+            if (rowNumber % sampleEvery == 0) {
+                stats[1]++;
+                stats[2] = Math.max(stats[2], usedHeap() - baseline);
+            }
+        });
+        
+        System.out.printf("Read %d rows (%d bytes), heap growth at %d samples: max %d KB%n",
+                stats[0], Files.size(file), stats[1], stats[2] / 1024);
+        assertThat(stats[0]).isEqualTo(ROWS + 1);
+        assertThat(stats[1]).isGreaterThanOrEqualTo(SAMPLES);
+        assertThat(stats[2]).isLessThan(MAX_HEAP_GROWTH);
+        assertThat(spilledStrings()).isEqualTo(spilledBefore);
+    }
+    
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+    
+    private static List<Path> spilledStrings() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(f -> f.getFileName().toString().startsWith("employee-import-strings-")).toList();
+        }
+    }
+    
+    /**
+     * Writes a minimal workbook part by part, streaming, so the test itself holds nothing: a header
+     * and {@code rows} rows of an email and an employee code, every one a distinct shared string.
+     */
+    private static void writeUniqueStringsWorkbook(Path file, int rows) throws IOException {
+        String main = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+        String relationships = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+        String contentTypes = "application/vnd.openxmlformats-officedocument.spreadsheetml.";
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            Writer xml = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            xml.write("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+                    "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+                    "<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+                    "<Override PartName=\"/xl/workbook.xml\" ContentType=\"" + contentTypes + "sheet.main+xml\"/>" +
+                    "<Override PartName=\"/xl/worksheets/sheet1.xml\" ContentType=\"" + contentTypes + "worksheet+xml\"/>" +
+                    "<Override PartName=\"/xl/sharedStrings.xml\" ContentType=\"" + contentTypes + "sharedStrings+xml\"/>" +
+                    "</Types>");
+            xml.flush();
+            zip.putNextEntry(new ZipEntry("_rels/.rels"));
+            xml.write("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+                    "<Relationship Id=\"rId1\" Type=\"" + relationships + "/officeDocument\" Target=\"xl/workbook.xml\"/>" +
+                    "</Relationships>");
+            xml.flush();
+            zip.putNextEntry(new ZipEntry("xl/workbook.xml"));
+            xml.write("<workbook xmlns=\"" + main + "\" xmlns:r=\"" + relationships + "\">" +
+                    "<sheets><sheet name=\"Employees\" sheetId=\"1\" r:id=\"rId1\"/></sheets></workbook>");
+            xml.flush();
+            zip.putNextEntry(new ZipEntry("xl/_rels/workbook.xml.rels"));
+            xml.write("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+                    "<Relationship Id=\"rId1\" Type=\"" + relationships + "/worksheet\" Target=\"worksheets/sheet1.xml\"/>" +
+                    "<Relationship Id=\"rId2\" Type=\"" + relationships + "/sharedStrings\" Target=\"sharedStrings.xml\"/>" +
+                    "</Relationships>");
+            xml.flush();
+            zip.putNextEntry(new ZipEntry("xl/sharedStrings.xml"));
+            xml.write("<sst xmlns=\"" + main + "\" count=\"" + (2 * rows + 2) + "\" uniqueCount=\"" + (2 * rows + 2) + "\">" +
+                    "<si><t>email</t></si><si><t>employeeCode</t></si>");
+            for (int i = 0; i < rows; i++) {
+                xml.write("<si><t>employee" + i + "@example.com</t></si><si><t>EMP" + i + "</t></si>");
+            }
+            xml.write("</sst>");
+            xml.flush();
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+            xml.write("<worksheet xmlns=\"" + main + "\"><sheetData>");
+            for (int i = 0; i <= rows; i++) {
+                xml.write("<row r=\"" + (i + 1) + "\"><c r=\"A" + (i + 1) + "\" t=\"s\"><v>" + (2 * i) + "</v></c>" +
+                        "<c r=\"B" + (i + 1) + "\" t=\"s\"><v>" + (2 * i + 1) + "</v></c></row>");
+            }
+            xml.write("</sheetData></worksheet>");
+            xml.flush();
+        }
+    }
+}
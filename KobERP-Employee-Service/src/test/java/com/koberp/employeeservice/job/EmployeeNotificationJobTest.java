@@ -0,0 +1,84 @@
+package com.koberp.employeeservice.job;
+
+import com.koberp.employeeservice.repository.EmployeeNotificationRepository;
+import com.koberp.employeeservice.support.PostgresTestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeNotificationJobTest {
+    
+    private JdbcTemplate jdbcTemplate;
+    private EmployeeNotificationJob job;
+    private final LocalDate today = LocalDate.now();
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(PostgresTestDatabase.dataSource());
+        PostgresTestDatabase.clear(jdbcTemplate);
+        job = new EmployeeNotificationJob(new EmployeeNotificationRepository(jdbcTemplate));
+        ReflectionTestUtils.setField(job, "contractExpiryDays", 30);
+        ReflectionTestUtils.setField(job, "leaveMinRemaining", 0);
+        ReflectionTestUtils.setField(job, "leaveMaxRemaining", 20);
+        // Small chunks so every scan pages, with ties split across a chunk boundary
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+    }
+    
+    @Test
+    void scanPagesThroughEveryMatchAndSkipsTheRest() {
+        insert(1, 20, 23, today.plusDays(5), "ACTIVE", false);
+        insert(2, 20, 21, today.plusDays(5), "ACTIVE", false);
+        insert(3, 20, 10, today.plusDays(30), "ACTIVE", false);
+        insert(4, 21, 0, today.plusDays(31), "ACTIVE", false);
+        insert(5, 25, 0, null, "ACTIVE", false);
+        insert(6, 25, 0, null, "ACTIVE", false);
+        insert(7, 30, 0, null, "ACTIVE", false);
+        insert(8, 21, 0, today.plusDays(1), "INACTIVE", false);
+        insert(9, 40, 50, today.plusDays(1), "ACTIVE", true);
+        
+        job.scan();
+        
+        assertThat(notified("CONTRACT_EXPIRING")).containsExactly(1L, 2L, 3L);
+        assertThat(notified("LEAVE_OVERDRAWN")).containsExactly(1L, 2L);
+        assertThat(notified("LEAVE_UNUSED")).containsExactly(4L, 5L, 6L, 7L);
+        assertThat(jdbcTemplate.queryForObject("SELECT message FROM employee_notifications " +
+                "WHERE employee_id = 1 AND type = 'LEAVE_OVERDRAWN'", String.class))
+                .isEqualTo("First1 Last1 has -3 leave days remaining, below the minimum of 0");
+    }
+    
+    @Test
+    void rescanRaisesNothingNew() {
+        insert(1, 20, 23, today.plusDays(5), "ACTIVE", false);
+        insert(2, 25, 0, today.plusDays(6), "ACTIVE", false);
+        insert(3, 30, 0, null, "ACTIVE", false);
+        job.scan();
+        List<Long> first = jdbcTemplate.queryForList("SELECT id FROM employee_notifications ORDER BY id", Long.class);
+        
+        job.scan();
+        
+        assertThat(first).hasSize(5);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM employee_notifications ORDER BY id", Long.class))
+                .isEqualTo(first);
+    }
+    
+    private List<Long> notified(String type) {
+        return jdbcTemplate.queryForList("SELECT employee_id FROM employee_notifications WHERE type = ? " +
+                "ORDER BY employee_id", Long.class, type);
+    }
+    
+    private void insert(long id, int totalLeave, int usedLeave, LocalDate contractEnd, String status, boolean deleted) {
+        jdbcTemplate.update("INSERT INTO employees (id, employee_id, employee_code, first_name, last_name, email, " +
+                        "position, department, status, total_leave_days, used_leave_days, contract_end_date, " +
+                        "created_at, updated_at, deleted) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, 'Engineer', 'IT', ?, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP, ?)",
+                id, "EID" + id, "EMP" + id, "First" + id, "Last" + id, "e" + id + "@example.com", status,
+                totalLeave, usedLeave, contractEnd == null ? null : Date.valueOf(contractEnd), deleted);
+    }
+}
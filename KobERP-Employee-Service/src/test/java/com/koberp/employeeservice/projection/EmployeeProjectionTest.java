@@ -0,0 +1,166 @@
+package com.koberp.employeeservice.projection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.koberp.employeeservice.dto.EmployeeResponse;
+import com.koberp.employeeservice.mapper.EmployeeMapper;
+import com.koberp.employeeservice.model.Employee;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeProjectionTest {
+    
+    private static final int ROWS = 10_000;
+    private static final int ROUNDS = 5;
+    
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final EmployeeMapper employeeMapper = new EmployeeMapper(() -> 1L);
+    
+    @Test
+    void compiledProjectionsAreBounded() {
+        EmployeeField[] fields = EmployeeField.values();
+        // Every pair of fields is a distinct client-chosen combination, far more than the cache holds
+        for (int i = 1; i < fields.length; i++) {
+            for (int j = i + 1; j < fields.length; j++) {
+                EmployeeProjection.of(fields[i].getJsonName() + "," + fields[j].getJsonName());
+            }
+        }
+        
+        assertThat(EmployeeProjection.compiledCount()).isLessThanOrEqualTo(256);
+    }
+    
+    @Test
+    void allFieldsProjectionMatchesEmployeeResponse() throws Exception {
+        Employee employee = employee(1);
+        EmployeeProjection projection = EmployeeProjection.all();
+        
+        JsonNode projected = objectMapper.readTree(objectMapper.writeValueAsString(
+                ProjectedEmployees.single(projection, tuple(projection, employee))));
+        JsonNode full = objectMapper.readTree(objectMapper.writeValueAsString(employeeMapper.toResponse(employee)));
+        
+        assertThat(projected).isEqualTo(full);
+    }
+    
+    /**
+     * Payload and serialization time of a typical directory listing (four fields) against the full
+     * response for the same rows. Timings are printed for comparison only; the assertion is on size.
+     */
+    @Test
+    void sparseListingPayloadAndLatency() throws Exception {
+        EmployeeProjection projection = EmployeeProjection.of("firstName,lastName,departmentId,status");
+        List<Employee> employees = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            employees.add(employee(i));
+        }
+        List<EmployeeResponse> responses = employees.stream().map(employeeMapper::toResponse).collect(Collectors.toList());
+        List<Tuple> rows = employees.stream().map(employee -> tuple(projection, employee)).collect(Collectors.toList());
+        ProjectedEmployees projected = ProjectedEmployees.list(projection, rows);
+        
+        int fullBytes = 0;
+        int projectedBytes = 0;
+        long fullNanos = Long.MAX_VALUE;
+        long projectedNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            fullBytes = objectMapper.writeValueAsBytes(responses).length;
+            fullNanos = Math.min(fullNanos, System.nanoTime() - start);
+            start = System.nanoTime();
+            projectedBytes = objectMapper.writeValueAsBytes(projected).length;
+            projectedNanos = Math.min(projectedNanos, System.nanoTime() - start);
+        }
+        System.out.printf("%d employees: full %d bytes in %.1f ms, fields=%s %d bytes in %.1f ms%n", ROWS,
+                fullBytes, fullNanos / 1e6, projection.getSelectList(), projectedBytes, projectedNanos / 1e6);
+        
+        assertThat(projectedBytes).isLessThan(fullBytes / 4);
+    }
+    
+    private static Employee employee(int i) {
+        Employee employee = new Employee();
+        employee.setId((long) i + 1);
+        employee.setEmployeeCode("EMP" + i);
+        employee.setFirstName("First" + i);
+        employee.setLastName("Last" + i);
+        employee.setEmail("employee" + i + "@example.com");
+        employee.setPhone("+905551234567");
+        employee.setBirthDate(LocalDate.of(1990, 1 + i % 12, 1 + i % 28));
+        employee.setHireDate(LocalDate.of(2020, 1 + i % 12, 1 + i % 28));
+        employee.setPosition("Software Engineer");
+        employee.setDepartmentId("IT");
+        employee.setSalary(new BigDecimal("75000.00"));
+        employee.setPerformanceScore(new BigDecimal("4.50"));
+        employee.setAddress("Main Street " + i + ", Istanbul");
+        employee.setEmergencyContactName("Contact " + i);
+        employee.setEmergencyContactPhone("+905559876543");
+        employee.setEducationLevel("Bachelor");
+        employee.setTotalLeaveDays(20);
+        employee.setUsedLeaveDays(i % 20);
+        employee.setStatus("ACTIVE");
+        employee.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+        employee.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 0));
+        return employee;
+    }
+    
+    // The row the projection's JPQL select list would return for this employee
+    private static Tuple tuple(EmployeeProjection projection, Employee employee) {
+        BeanWrapperImpl bean = new BeanWrapperImpl(employee);
+        Object[] values = Arrays.stream(projection.getSelectList().split(", "))
+                .map(column -> bean.getPropertyValue(column.substring("e.".length())))
+                .toArray();
+        return new ArrayTuple(values);
+    }
+    
+    private record ArrayTuple(Object[] values) implements Tuple {
+        
+        @Override
+        public Object get(int i) {
+            return values[i];
+        }
+        
+        @Override
+        public <X> X get(int i, Class<X> type) {
+            return type.cast(values[i]);
+        }
+        
+        @Override
+        public Object[] toArray() {
+            return values.clone();
+        }
+        
+        @Override
+        public <X> X get(TupleElement<X> tupleElement) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public <X> X get(String alias, Class<X> type) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public Object get(String alias) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public List<TupleElement<?>> getElements() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
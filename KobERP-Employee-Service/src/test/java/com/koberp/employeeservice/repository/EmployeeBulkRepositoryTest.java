@@ -0,0 +1,101 @@
+package com.koberp.employeeservice.repository;
+
+import com.koberp.employeeservice.dto.BulkEmployeeRequest;
+import com.koberp.employeeservice.event.EmployeeSnapshot;
+import com.koberp.employeeservice.support.PostgresTestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeBulkRepositoryTest {
+    
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private EmployeeBulkRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        dataSource = PostgresTestDatabase.dataSource();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        PostgresTestDatabase.clear(jdbcTemplate);
+        repository = new EmployeeBulkRepository(jdbcTemplate);
+        insert(1, "ACTIVE", false);
+        insert(2, "ACTIVE", false);
+        insert(3, "ACTIVE", true);
+    }
+    
+    @Test
+    void updateStatusSkipsUnknownAndDeletedIdsAndReturnsPreviousState() {
+        List<EmployeeSnapshot> updated = repository.updateStatus(filter(1L, 3L, 999L), "INACTIVE");
+        
+        assertThat(updated).extracting(EmployeeSnapshot::getId).containsExactly(1L);
+        assertThat(updated.get(0).getStatus()).isEqualTo("ACTIVE");
+        assertThat(statusOf(1)).isEqualTo("INACTIVE");
+        assertThat(statusOf(2)).isEqualTo("ACTIVE");
+        assertThat(statusOf(3)).isEqualTo("ACTIVE");
+    }
+    
+    @Test
+    void softDeleteOfUnknownIdsChangesNothing() {
+        assertThat(repository.softDelete(filter(998L, 999L))).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees WHERE deleted", Long.class)).isEqualTo(1);
+    }
+    
+    @Test
+    void updateWaitsForRowLocksAndReturnsTheCommittedState() throws Exception {
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            try (Statement statement = other.createStatement()) {
+                statement.executeUpdate("UPDATE employees SET status = 'ON_LEAVE' WHERE id = 1");
+            }
+            
+            // Its own connection and transaction, as the service runs it
+            SingleConnectionDataSource bulkDataSource = new SingleConnectionDataSource(dataSource.getConnection(), true);
+            TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(bulkDataSource));
+            EmployeeBulkRepository bulkRepository = new EmployeeBulkRepository(new JdbcTemplate(bulkDataSource));
+            CompletableFuture<List<EmployeeSnapshot>> bulk = CompletableFuture.supplyAsync(() ->
+                    transaction.execute(status -> bulkRepository.updateStatus(filter(1L, 2L), "INACTIVE")));
+            
+            Thread.sleep(500);
+            assertThat(bulk).as("bulk update blocks on the locked row").isNotDone();
+            
+            other.commit();
+            List<EmployeeSnapshot> updated = bulk.get(10, TimeUnit.SECONDS);
+            bulkDataSource.destroy();
+            
+            assertThat(updated).extracting(EmployeeSnapshot::getId).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(updated).filteredOn(employee -> employee.getId() == 1L)
+                    .extracting(EmployeeSnapshot::getStatus).containsExactly("ON_LEAVE");
+            assertThat(statusOf(1)).isEqualTo("INACTIVE");
+        }
+    }
+    
+    private void insert(long id, String status, boolean deleted) {
+        jdbcTemplate.update("INSERT INTO employees (id, employee_id, employee_code, first_name, last_name, email, " +
+                        "position, department, status, created_at, updated_at, deleted) " +
+                        "VALUES (?, ?, ?, 'First', 'Last', ?, 'Engineer', 'IT', ?, LOCALTIMESTAMP, LOCALTIMESTAMP, ?)",
+                id, "EID" + id, "EMP" + id, "e" + id + "@example.com", status, deleted);
+    }
+    
+    private String statusOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM employees WHERE id = ?", String.class, id);
+    }
+    
+    private static BulkEmployeeRequest filter(Long... ids) {
+        BulkEmployeeRequest filter = new BulkEmployeeRequest();
+        filter.setIds(List.of(ids));
+        return filter;
+    }
+}
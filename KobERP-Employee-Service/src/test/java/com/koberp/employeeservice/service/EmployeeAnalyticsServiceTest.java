@@ -0,0 +1,147 @@
+package com.koberp.employeeservice.service;
+
+import com.koberp.employeeservice.dto.HeadcountPoint;
+import com.koberp.employeeservice.dto.HeadcountSeriesResponse;
+import com.koberp.employeeservice.service.EmployeeAnalyticsService.Granularity;
+import com.koberp.employeeservice.support.PostgresTestDatabase;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmployeeAnalyticsService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeAnalyticsServiceTest {
+    
+    @BeforeAll
+    static void requirePostgres() {
+        PostgresTestDatabase.assumeAvailable();
+    }
+    
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+    
+    @Autowired
+    private EmployeeAnalyticsService analyticsService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private long nextId;
+    
+    @BeforeEach
+    void clear() {
+        PostgresTestDatabase.clear(jdbcTemplate);
+        nextId = 1;
+    }
+    
+    @Test
+    void deletedAndArchivedEmployeesLeaveOnTheirDeletionDay() {
+        insert("employees", LocalDate.of(2024, 1, 10), null, "ACTIVE", null);
+        insert("employees", LocalDate.of(2024, 1, 5), null, "ACTIVE", LocalDate.of(2024, 3, 15));
+        // Contract ended before the record was deleted, so the contract end is the exit
+        insert("employees", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 10), "ACTIVE", LocalDate.of(2024, 4, 2));
+        insert("employees_archive", LocalDate.of(2023, 12, 1), null, "ACTIVE", LocalDate.of(2024, 2, 20));
+        
+        HeadcountSeriesResponse series = analyticsService.getHeadcountSeries(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 4, 30), Granularity.MONTH);
+        
+        assertThat(series.getOpeningHeadcount()).isEqualTo(1);
+        assertThat(series.getPoints()).extracting(HeadcountPoint::getHires).containsExactly(3L, 0L, 0L, 0L);
+        assertThat(series.getPoints()).extracting(HeadcountPoint::getExits).containsExactly(0L, 2L, 1L, 0L);
+        assertThat(series.getPoints()).extracting(HeadcountPoint::getHeadcount).containsExactly(4L, 2L, 1L, 1L);
+    }
+    
+    @Test
+    void dailySeriesComesFromOneQueryAndMatchesAPerDayCount() {
+        Random random = new Random(42);
+        LocalDate origin = LocalDate.of(2022, 1, 1);
+        List<LocalDate[]> periods = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDate hired = origin.plusDays(random.nextInt(900));
+            LocalDate left = null;
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    left = hired.plusDays(random.nextInt(400));
+                    insert("employees", hired, left, "ACTIVE", null);
+                }
+                case 1 -> {
+                    left = hired.plusDays(random.nextInt(400));
+                    insert("employees", hired, null, "ACTIVE", left);
+                }
+                case 2 -> {
+                    left = hired.plusDays(random.nextInt(400));
+                    insertInactive(hired, left);
+                }
+                default -> insert("employees", hired, null, "ACTIVE", null);
+            }
+            periods.add(new LocalDate[]{hired, left});
+        }
+        Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.clear();
+        
+        LocalDate from = LocalDate.of(2022, 6, 1);
+        LocalDate to = LocalDate.of(2023, 12, 31);
+        HeadcountSeriesResponse series = analyticsService.getHeadcountSeries(from, to, Granularity.DAY);
+        
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(series.getPoints()).hasSize((int) (to.toEpochDay() - from.toEpochDay()) + 1);
+        for (HeadcountPoint point : series.getPoints()) {
+            LocalDate day = point.getPeriodStart();
+            assertThat(point.getHires()).as("hires on %s", day)
+                    .isEqualTo(periods.stream().filter(p -> p[0].equals(day)).count());
+            assertThat(point.getExits()).as("exits on %s", day)
+                    .isEqualTo(periods.stream().filter(p -> day.equals(p[1])).count());
+            assertThat(point.getHeadcount()).as("headcount on %s", day)
+                    .isEqualTo(periods.stream().filter(p -> !p[0].isAfter(day) && (p[1] == null || p[1].isAfter(day))).count());
+        }
+    }
+    
+    private void insert(String table, LocalDate hired, LocalDate contractEnd, String status, LocalDate deletedOn) {
+        long id = nextId++;
+        LocalDate updated = deletedOn != null ? deletedOn : hired;
+        jdbcTemplate.update("INSERT INTO " + table + " (id, employee_id, employee_code, first_name, last_name, " +
+                        "email, position, department, status, hire_date, contract_end_date, created_at, updated_at, " +
+                        "deleted, change_txid) VALUES (?, ?, ?, 'First', 'Last', ?, 'Engineer', 'IT', ?, ?, ?, ?, ?, ?, " +
+                        "txid_current())",
+                id, "EID" + id, "EMP" + id, "e" + id + "@example.com", status, Date.valueOf(hired),
+                contractEnd == null ? null : Date.valueOf(contractEnd), Timestamp.valueOf(hired.atStartOfDay()),
+                Timestamp.valueOf(updated.atTime(12, 0)), deletedOn != null);
+    }
+    
+    private void insertInactive(LocalDate hired, LocalDate deactivatedOn) {
+        insert("employees", hired, null, "INACTIVE", null);
+        jdbcTemplate.update("UPDATE employees SET updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(deactivatedOn.atTime(12, 0)), nextId - 1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.koberp.employeeservice.service;
+
+import com.koberp.employeeservice.cache.EmployeeUniquenessFilter;
+import com.koberp.employeeservice.dto.BulkRowResult;
+import com.koberp.employeeservice.dto.EmployeeRequest;
+import com.koberp.employeeservice.exception.DatabaseErrors;
+import com.koberp.employeeservice.idgen.SnowflakeEmployeeIdGenerator;
+import com.koberp.employeeservice.mapper.EmployeeMapper;
+import com.koberp.employeeservice.model.Employee;
+import com.koberp.employeeservice.repository.EmployeeBulkRepository;
+import com.koberp.employeeservice.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeBulkServiceTest {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final List<Employee> saved = new ArrayList<>();
+    private final EmployeeBulkService service = newService();
+    
+    @Test
+    void rowsInOneBatchGetDistinctEmployeeIdsAndCodes() {
+        when(employeeRepository.saveAll(anyList())).thenAnswer(invocation -> save(invocation.getArgument(0)));
+        
+        int rows = BATCH_SIZE * 2 + 1;
+        List<EmployeeRequest> requests = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            requests.add(request(i));
+        }
+        BulkRowResult[] results = new BulkRowResult[rows];
+        
+        service.createRows(requests, results, 0);
+        
+        assertThat(results).allMatch(BulkRowResult::isSuccess);
+        assertThat(saved).hasSize(rows);
+        assertThat(saved).extracting(Employee::getEmployeeId).doesNotHaveDuplicates();
+        assertThat(saved).extracting(Employee::getEmployeeCode).doesNotHaveDuplicates();
+        assertThat(Arrays.stream(results).map(BulkRowResult::getEmployeeCode)).doesNotHaveDuplicates();
+    }
+    
+    @Test
+    void rowsFailingOnRetryReportFixedMessagesWithoutDatabaseText() {
+        // Row 1 collides with a concurrent insert, row 2 hits another constraint
+        String duplicate = "duplicate key value violates unique constraint \"uk_employees_live_email\" " +
+                "Detail: Key (email)=(employee1@example.com) already exists.";
+        String notNull = "null value in column \"position\" of relation \"employees\" violates not-null constraint";
+        when(employeeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Employee> batch = invocation.getArgument(0);
+            for (Employee employee : batch) {
+                if (employee.getEmail().equals("employee1@example.com")) {
+                    throw violation(duplicate, "23505");
+                }
+                if (employee.getEmail().equals("employee2@example.com")) {
+                    throw violation(notNull, "23502");
+                }
+            }
+            return save(batch);
+        });
+        List<EmployeeRequest> requests = List.of(request(0), request(1), request(2));
+        BulkRowResult[] results = new BulkRowResult[3];
+        
+        service.createRows(requests, results, 0);
+        
+        assertThat(results[0].isSuccess()).isTrue();
+        assertThat(results[1].isSuccess()).isFalse();
+        assertThat(results[1].getError()).isEqualTo(DatabaseErrors.DUPLICATE_EMPLOYEE_MESSAGE);
+        assertThat(results[2].isSuccess()).isFalse();
+        assertThat(results[2].getError()).isEqualTo("The employee could not be saved");
+        assertThat(results).extracting(BulkRowResult::getError)
+                .noneMatch(error -> error != null && (error.contains("constraint") || error.contains("employee1@")));
+    }
+    
+    private EmployeeBulkService newService() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        EmployeeBulkService bulkService = new EmployeeBulkService(
+                employeeRepository,
+                mock(EmployeeBulkRepository.class),
+                new EmployeeMapper(new SnowflakeEmployeeIdGenerator(1)),
+                mock(EmployeeUniquenessFilter.class),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                mock(EntityManager.class),
+                new TransactionTemplate(transactionManager),
+                mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(bulkService, "batchSize", BATCH_SIZE);
+        return bulkService;
+    }
+    
+    private List<Employee> save(List<Employee> batch) {
+        saved.addAll(batch);
+        return batch;
+    }
+    
+    private static DataIntegrityViolationException violation(String message, String sqlState) {
+        return new DataIntegrityViolationException("could not execute statement [" + message + "]",
+                new SQLException(message, sqlState));
+    }
+    
+    private static EmployeeRequest request(int i) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setFirstName("First" + i);
+        request.setLastName("Last" + i);
+        request.setEmail("employee" + i + "@example.com");
+        request.setPosition("Engineer");
+        request.setDepartmentId("IT");
+        return request;
+    }
+}
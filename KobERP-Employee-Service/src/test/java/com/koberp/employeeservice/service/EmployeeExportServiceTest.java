@@ -0,0 +1,137 @@
+package com.koberp.employeeservice.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.koberp.employeeservice.projection.EmployeeProjection;
+import com.koberp.employeeservice.repository.EmployeeProjectionRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports a million generated employees through the real JPQL cursor (H2 with lazy query
+ * execution, so rows are not buffered by the driver) and checks that neither the heap nor the
+ * persistence context grows with the row count.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/export-test-db/employees;LAZY_QUERY_EXECUTION=1;INIT=CREATE SCHEMA IF NOT EXISTS erp",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeExportServiceTest {
+    
+    private static final int ROWS = 1_000_000;
+    private static final int SAMPLES = 10;
+    // A fully materialized result would need several hundred MB for this many rows
+    private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @AfterEach
+    void dropRows() {
+        jdbcTemplate.execute("TRUNCATE TABLE erp.employees");
+    }
+    
+    @Test
+    void exportOfAMillionRowsKeepsHeapAndPersistenceContextFlat() throws Exception {
+        jdbcTemplate.update("INSERT INTO erp.employees (id, employee_id, employee_code, first_name, last_name, email, phone, " +
+                "birth_date, hire_date, position, department, salary, status, total_leave_days, used_leave_days, " +
+                "created_at, updated_at, deleted) " +
+                "SELECT X, 'EID' || X, 'EMP' || X, 'First' || X, 'Last' || X, 'employee' || X || '@example.com', " +
+                "'+905551234567', DATEADD('DAY', MOD(X, 10000), DATE '1970-01-01'), " +
+                "DATEADD('DAY', MOD(X, 5000), DATE '2010-01-01'), 'Software Engineer', 'DEPT' || MOD(X, 20), " +
+                "50000 + MOD(X, 50000), 'ACTIVE', 20, MOD(X, 20), LOCALTIMESTAMP, LOCALTIMESTAMP, FALSE " +
+                "FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        
+        EmployeeExportService exportService = new EmployeeExportService(
+                new EmployeeProjectionRepository(entityManager), JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(exportService, "fetchSize", 1000);
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(ROWS / SAMPLES);
+        long[] entityCount = new long[1];
+        
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try {
+                exportService.export(EmployeeExportService.Format.CSV, EmployeeProjection.all(), Map.of(), out);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            entityCount[0] = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        });
+        
+        System.out.printf("Exported %d lines (%d bytes), heap growth at %d samples: max %d KB%n",
+                out.lines, out.bytes, out.samples, out.maxGrowth / 1024);
+        assertThat(out.lines).isEqualTo(ROWS + 1);
+        assertThat(out.samples).isGreaterThanOrEqualTo(SAMPLES);
+        assertThat(out.maxGrowth).isLessThan(MAX_HEAP_GROWTH);
+        assertThat(entityCount[0]).isZero();
+    }
+    
+    /**
+     * Discards the export, counting lines, and every {@code sampleEvery} lines forces a GC and
+     * records how far the retained heap has grown since the export started.
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+        
+        private final int sampleEvery;
+        private final long baseline;
+        private long lines;
+        private long bytes;
+        private int samples;
+        private long maxGrowth;
+        
+        HeapSamplingOutputStream(int sampleEvery) {
+            this.sampleEvery = sampleEvery;
+            this.baseline = usedHeap();
+        }
+        
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+        
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n' && ++lines % sampleEvery == 0) {
+                    samples++;
+                    maxGrowth = Math.max(maxGrowth, usedHeap() - baseline);
+                }
+            }
+        }
+        
+        private static long usedHeap() {
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+}
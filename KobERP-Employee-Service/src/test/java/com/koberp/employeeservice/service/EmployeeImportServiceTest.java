@@ -0,0 +1,144 @@
+package com.koberp.employeeservice.service;
+
+import com.koberp.employeeservice.dto.BulkRowResult;
+import com.koberp.employeeservice.dto.EmployeeImportResponse;
+import com.koberp.employeeservice.dto.EmployeeRequest;
+import com.koberp.employeeservice.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class EmployeeImportServiceTest {
+    
+    private final EmployeeBulkService employeeBulkService = mock(EmployeeBulkService.class);
+    private final EmployeeImportService service = new EmployeeImportService(employeeBulkService, 2, 10);
+    private long nextId = 1;
+    
+    EmployeeImportServiceTest() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 10);
+        ReflectionTestUtils.setField(service, "retentionMs", 60_000L);
+        doAnswer(this::createRows).when(employeeBulkService).createRows(any(), any(), anyInt());
+    }
+    
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+    
+    @Test
+    void failedRowsAreReportedByTheirRowInTheFile() throws Exception {
+        EmployeeImportResponse started = service.startImport(csv(
+                "firstName,lastName,email,hireDate\n" +
+                "Ayse,Yilmaz,ayse@example.com,2024-01-15\n" +
+                "\n" +
+                "Ahmet,Kaya,ahmet@example.com,yesterday\n" +
+                "Mehmet,Yildiz,taken@example.com,2024-02-01\n" +
+                "Zeynep,Demir,zeynep@example.com,\n"));
+        
+        EmployeeImportResponse finished = awaitFinished(started.getId());
+        
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getProcessed()).isEqualTo(4);
+        assertThat(finished.getCreated()).isEqualTo(2);
+        assertThat(finished.getFailed()).isEqualTo(2);
+        assertThat(finished.getErrors()).extracting(BulkRowResult::getIndex).containsExactly(4, 5);
+        assertThat(finished.getErrors()).extracting(BulkRowResult::getError).containsExactly(
+                "hireDate: invalid value 'yesterday'", "Employee with email taken@example.com already exists");
+        assertThat(finished.isErrorsTruncated()).isFalse();
+    }
+    
+    @Test
+    void reportedErrorsAreCapped() throws Exception {
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 1);
+        EmployeeImportResponse started = service.startImport(csv(
+                "firstName,hireDate\nAyse,x\nAhmet,y\nMehmet,z\n"));
+        
+        EmployeeImportResponse finished = awaitFinished(started.getId());
+        
+        assertThat(finished.getFailed()).isEqualTo(3);
+        assertThat(finished.getErrors()).extracting(BulkRowResult::getIndex).containsExactly(2);
+        assertThat(finished.isErrorsTruncated()).isTrue();
+    }
+    
+    @Test
+    void filesWithoutAUsableHeaderFail() throws Exception {
+        EmployeeImportResponse blank = awaitFinished(service.startImport(csv("\n,,\n")).getId());
+        EmployeeImportResponse unknown = awaitFinished(service.startImport(csv("firstName,nickname\nAyse,Ay\n")).getId());
+        
+        assertThat(blank.getStatus()).isEqualTo("FAILED");
+        assertThat(blank.getMessage()).isEqualTo("Import file has no header row");
+        assertThat(unknown.getStatus()).isEqualTo("FAILED");
+        assertThat(unknown.getMessage()).isEqualTo("Unknown import columns: nickname");
+    }
+    
+    @Test
+    void finishedJobsAreEvictedAfterRetentionWhileRunningOnesStay() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return createRows(invocation);
+        }).when(employeeBulkService).createRows(any(), any(), anyInt());
+        String finished = service.startImport(csv("firstName\n")).getId();
+        awaitFinished(finished);
+        String running = service.startImport(csv("firstName\nAyse\n")).getId();
+        ReflectionTestUtils.setField(service, "retentionMs", 0L);
+        Thread.sleep(5);
+        
+        service.evictFinishedJobs();
+        
+        assertThatThrownBy(() -> service.getImport(finished)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(service.getImport(running).getStatus()).isIn("QUEUED", "RUNNING");
+        release.countDown();
+    }
+    
+    @Test
+    void unknownImportIsNotFound() {
+        assertThatThrownBy(() -> service.getImport("missing"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Import not found with id: missing");
+    }
+    
+    private Object createRows(InvocationOnMock invocation) {
+        List<EmployeeRequest> requests = invocation.getArgument(0);
+        BulkRowResult[] results = invocation.getArgument(1);
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            results[i] = "taken@example.com".equals(requests.get(i).getEmail())
+                    ? BulkRowResult.failure(i, "Employee with email taken@example.com already exists")
+                    : BulkRowResult.success(i, nextId, "EMP" + nextId++);
+        }
+        return null;
+    }
+    
+    private EmployeeImportResponse awaitFinished(String id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        EmployeeImportResponse response = service.getImport(id);
+        while (!response.getStatus().equals("COMPLETED") && !response.getStatus().equals("FAILED")) {
+            assertThat(System.currentTimeMillis()).as("import %s finished in time", id).isLessThan(deadline);
+            Thread.sleep(10);
+            response = service.getImport(id);
+        }
+        return response;
+    }
+    
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "employees.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,169 @@
+package com.koberp.employeeservice.service;
+
+import com.koberp.employeeservice.cache.EmployeeCounters;
+import com.koberp.employeeservice.cache.EmployeeDictionaries;
+import com.koberp.employeeservice.cache.EmployeeResponseCache;
+import com.koberp.employeeservice.cache.EmployeeSuggestIndex;
+import com.koberp.employeeservice.cache.EmployeeUniquenessFilter;
+import com.koberp.employeeservice.cache.SalaryDistributionCache;
+import com.koberp.employeeservice.dto.EmployeeChangesResponse;
+import com.koberp.employeeservice.dto.EmployeeResponse;
+import com.koberp.employeeservice.exception.InvalidRequestException;
+import com.koberp.employeeservice.idgen.EmployeeIdGenerator;
+import com.koberp.employeeservice.mapper.EmployeeMapper;
+import com.koberp.employeeservice.mapper.StatsMapper;
+import com.koberp.employeeservice.repository.EmployeeProjectionRepository;
+import com.koberp.employeeservice.support.PostgresTestDatabase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Sync-token paging over {@code change_txid}, on PostgreSQL so the trigger and the snapshot xmin
+ * are real. Every statement autocommits, so each write gets its own transaction id.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmployeeService.class, EmployeeMapper.class, StatsMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeServiceSyncTest {
+    
+    @BeforeAll
+    static void requirePostgres() {
+        PostgresTestDatabase.assumeAvailable();
+    }
+    
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+    
+    @MockBean
+    private EmployeeProjectionRepository employeeProjectionRepository;
+    @MockBean
+    private EmployeeIdGenerator employeeIdGenerator;
+    @MockBean
+    private EmployeeCounters employeeCounters;
+    @MockBean
+    private EmployeeSuggestIndex employeeSuggestIndex;
+    @MockBean
+    private EmployeeDictionaries employeeDictionaries;
+    @MockBean
+    private EmployeeResponseCache employeeResponseCache;
+    @MockBean
+    private SalaryDistributionCache salaryDistributionCache;
+    @MockBean
+    private EmployeeUniquenessFilter employeeUniquenessFilter;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @BeforeEach
+    void clear() {
+        PostgresTestDatabase.clear(jdbcTemplate);
+    }
+    
+    @Test
+    void initialSyncPagesThroughLiveEmployeesOnly() {
+        insert(1, true);
+        for (long id = 2; id <= 6; id++) {
+            insert(id, false);
+        }
+        
+        EmployeeChangesResponse first = employeeService.getChanges(null, 2);
+        EmployeeChangesResponse second = employeeService.getChanges(first.getNextToken(), 2);
+        EmployeeChangesResponse third = employeeService.getChanges(second.getNextToken(), 2);
+        EmployeeChangesResponse idle = employeeService.getChanges(third.getNextToken(), 2);
+        
+        assertThat(first.getChanged()).extracting(EmployeeResponse::getId).containsExactly(2L, 3L);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getChanged()).extracting(EmployeeResponse::getId).containsExactly(4L, 5L);
+        assertThat(second.isHasMore()).isTrue();
+        assertThat(third.getChanged()).extracting(EmployeeResponse::getId).containsExactly(6L);
+        assertThat(third.isHasMore()).isFalse();
+        assertThat(first.getDeletedIds()).isEmpty();
+        assertThat(idle.getChanged()).isEmpty();
+        assertThat(idle.getDeletedIds()).isEmpty();
+    }
+    
+    @Test
+    void laterChangesIncludeTombstonesInCommitOrder() {
+        insert(1, false);
+        insert(2, false);
+        insert(3, false);
+        String token = employeeService.getChanges(null, 10).getNextToken();
+        
+        jdbcTemplate.update("UPDATE employees SET deleted = true, updated_at = LOCALTIMESTAMP WHERE id = 3");
+        jdbcTemplate.update("UPDATE employees SET position = 'Manager' WHERE id = 1");
+        EmployeeChangesResponse changes = employeeService.getChanges(token, 1);
+        EmployeeChangesResponse rest = employeeService.getChanges(changes.getNextToken(), 1);
+        
+        assertThat(changes.getDeletedIds()).containsExactly(3L);
+        assertThat(changes.getChanged()).isEmpty();
+        assertThat(changes.isHasMore()).isTrue();
+        assertThat(rest.getChanged()).extracting(EmployeeResponse::getPosition).containsExactly("Manager");
+        assertThat(rest.getDeletedIds()).isEmpty();
+    }
+    
+    @Test
+    void tokenStopsBeforeTransactionsStillRunning() throws Exception {
+        insert(1, false);
+        insert(2, false);
+        String token = employeeService.getChanges(null, 10).getNextToken();
+        
+        try (Connection running = dataSource.getConnection()) {
+            running.setAutoCommit(false);
+            try (Statement statement = running.createStatement()) {
+                statement.executeUpdate("UPDATE employees SET position = 'Manager' WHERE id = 1");
+            }
+            // Commits after the running transaction took its id, so it sorts after it
+            jdbcTemplate.update("UPDATE employees SET position = 'Director' WHERE id = 2");
+            EmployeeChangesResponse whileRunning = employeeService.getChanges(token, 10);
+            running.commit();
+            EmployeeChangesResponse afterCommit = employeeService.getChanges(whileRunning.getNextToken(), 10);
+            
+            assertThat(whileRunning.getChanged()).extracting(EmployeeResponse::getId).containsExactly(2L);
+            assertThat(whileRunning.isHasMore()).isFalse();
+            assertThat(afterCommit.getChanged()).extracting(EmployeeResponse::getId, EmployeeResponse::getPosition)
+                    .containsExactly(tuple(1L, "Manager"), tuple(2L, "Director"));
+        }
+    }
+    
+    @Test
+    void malformedTokenIsRejected() {
+        assertThatThrownBy(() -> employeeService.getChanges("not-a-token", 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Invalid sync token: not-a-token");
+    }
+    
+    private void insert(long id, boolean deleted) {
+        jdbcTemplate.update("INSERT INTO employees (id, employee_id, employee_code, first_name, last_name, email, " +
+                        "position, department, status, created_at, updated_at, deleted) " +
+                        "VALUES (?, ?, ?, 'First', 'Last', ?, 'Engineer', 'IT', 'ACTIVE', LOCALTIMESTAMP, LOCALTIMESTAMP, ?)",
+                id, "EID" + id, "EMP" + id, "e" + id + "@example.com", deleted);
+    }
+}
@@ -0,0 +1,87 @@
+package com.koberp.employeeservice.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * One embedded PostgreSQL per test JVM with {@code database-schema.sql} applied in the
+ * {@code erp} schema, for native SQL, triggers and PostgreSQL-only syntax that H2 cannot run.
+ * PostgreSQL refuses to start as root, so tests using it are skipped there.
+ */
+public final class PostgresTestDatabase {
+    
+    private static final String SCHEMA_SCRIPT = "database-schema.sql";
+    
+    private static EmbeddedPostgres postgres;
+    
+    private PostgresTestDatabase() {
+    }
+    
+    /**
+     * Skips the calling test class where PostgreSQL cannot start. Spring test classes call it from
+     * {@code @BeforeAll}, since an assumption failing while the context loads is reported as an error.
+     */
+    public static void assumeAvailable() {
+        assumeFalse("root".equals(System.getProperty("user.name")), "PostgreSQL does not run as root");
+    }
+    
+    public static synchronized DataSource dataSource() {
+        assumeAvailable();
+        if (postgres == null) {
+            postgres = start();
+        }
+        return postgres.getPostgresDatabase();
+    }
+    
+    /**
+     * Points a Spring test context (e.g. {@code @DataJpaTest} with the test database replacement
+     * off) at the embedded server.
+     */
+    public static void register(DynamicPropertyRegistry registry) {
+        dataSource();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+    
+    /**
+     * Empties every table the schema script creates and restarts their sequences.
+     */
+    public static void clear(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("TRUNCATE employees, employee_history, employee_notifications, employees_archive " +
+                "RESTART IDENTITY CASCADE");
+    }
+    
+    private static EmbeddedPostgres start() {
+        try {
+            EmbeddedPostgres started = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    started.close();
+                } catch (IOException ignored) {
+                    // The JVM is exiting; the data directory is temporary
+                }
+            }));
+            JdbcTemplate admin = new JdbcTemplate(started.getPostgresDatabase());
+            admin.execute("CREATE SCHEMA erp");
+            admin.execute("ALTER DATABASE postgres SET search_path TO erp");
+            // A new connection picks up the search path, so the script creates everything in erp
+            new JdbcTemplate(started.getPostgresDatabase()).execute(Files.readString(Path.of(SCHEMA_SCRIPT)));
+            return started;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
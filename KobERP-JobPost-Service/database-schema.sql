@@ -0,0 +1,15 @@
+-- İlan başına başvuru sayısı; başvuru eklenip silinirken aynı transaction içinde atomik olarak
+-- güncellenir, ApplicationCountRepairJob sapmaları gece düzeltir
+ALTER TABLE job_posts ADD COLUMN IF NOT EXISTS application_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE job_posts p SET application_count = c.count
+FROM (SELECT job_posting_id, COUNT(*) AS count FROM job_applications GROUP BY job_posting_id) c
+WHERE p.id = c.job_posting_id AND p.application_count <> c.count;
+
+-- İlan panosu: durum filtresi ve en yeni yayın önce sıralama tek index taramasıyla sayfalanır
+CREATE INDEX IF NOT EXISTS idx_job_posts_status_publish_date ON job_posts(post_status, publish_date DESC, id DESC);
+
+-- Başvuru arama: ilan + durum filtresi ve başvuru tarihine göre sıralama/aralık aynı index'ten okunur;
+-- ilan verilmeden yapılan durum aramaları için ikinci index
+CREATE INDEX IF NOT EXISTS idx_job_applications_post_status_applied_at ON job_applications(job_posting_id, application_status, applied_at);
+CREATE INDEX IF NOT EXISTS idx_job_applications_status_applied_at ON job_applications(application_status, applied_at);
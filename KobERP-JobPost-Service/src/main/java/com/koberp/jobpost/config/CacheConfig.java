@@ -0,0 +1,31 @@
+package com.koberp.jobpost.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.koberp.jobpost.service.JobPostService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Cache proxy'si transaction proxy'sinin dışında çalışır: cache'ten dönen okumalar transaction
+ * açmaz, @CacheEvict ise ancak commit'ten sonra uygulanır.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * İlan panosu herkese açık olduğundan kendi boyut ve süre sınırıyla kaydedilir; diğer cache'ler
+     * (auth0Token) bu sınırlardan etkilenmez
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> jobBoardCacheCustomizer(
+            @Value("${jobpost.job-board.cache-spec:maximumSize=1000,expireAfterWrite=300s}") String spec) {
+        return cacheManager -> cacheManager.registerCustomCache(JobPostService.JOB_BOARD_CACHE,
+                Caffeine.from(spec).build());
+    }
+}
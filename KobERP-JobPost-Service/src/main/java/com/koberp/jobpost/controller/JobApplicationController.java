@@ -1,8 +1,12 @@
 package com.koberp.jobpost.controller;
 
 import com.koberp.jobpost.dto.ApplicationStatusUpdateRequest;
+import com.koberp.jobpost.dto.BulkApplicationStatusRequest;
+import com.koberp.jobpost.dto.BulkApplicationStatusResponse;
 import com.koberp.jobpost.dto.JobApplicationRequest;
 import com.koberp.jobpost.dto.JobApplicationResponse;
+import com.koberp.jobpost.dto.JobApplicationSummaryResponse;
+import com.koberp.jobpost.dto.PageResponse;
 import com.koberp.jobpost.entity.JobApplication;
 import com.koberp.jobpost.service.JobApplicationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,10 +17,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -93,6 +100,34 @@ public class JobApplicationController {
         return ResponseEntity.ok(applications);
     }
 
+    @Operation(
+            summary = "Başvuru Arama",
+            description = "Başvuruları sayfalı olarak getirir; ilan, durum, deneyim yılı ve başvuru tarihi aralığına göre filtrelenip " +
+                    "sıralanabilir. Ön yazı ve durum notları listede yer almaz, detay için başvuru ID'si ile sorgulayın. " +
+                    "İlan ID'si verilirse sadece ilanın sahibi görüntüleyebilir."
+    )
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<JobApplicationSummaryResponse>> searchApplications(
+            @Parameter(description = "İş ilanı ID'si") @RequestParam(required = false) Integer jobPostingId,
+            @Parameter(description = "Başvuru durumu") @RequestParam(required = false) JobApplication.ApplicationStatus status,
+            @Parameter(description = "En az deneyim yılı") @RequestParam(required = false) Double minYearsExperience,
+            @Parameter(description = "En fazla deneyim yılı") @RequestParam(required = false) Double maxYearsExperience,
+            @Parameter(description = "Başvuru tarihi başlangıcı (yyyy-MM-dd, dahil)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedFrom,
+            @Parameter(description = "Başvuru tarihi bitişi (yyyy-MM-dd, dahil)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedTo,
+            @Parameter(description = "Sayfa numarası (0'dan başlar)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa boyutu (1-100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sıralama alanı (appliedAt, updatedAt, yearsExperience, applicantName, applicationStatus, id)")
+            @RequestParam(defaultValue = "appliedAt") String sortBy,
+            @Parameter(description = "Sıralama yönü (asc, desc)") @RequestParam(defaultValue = "desc") Sort.Direction direction
+    ) {
+        PageResponse<JobApplicationSummaryResponse> applications = jobApplicationService.searchApplications(
+                jobPostingId, status, minYearsExperience, maxYearsExperience, appliedFrom, appliedTo,
+                Math.max(page, 0), Math.max(1, Math.min(size, 100)), sortBy, direction);
+        return ResponseEntity.ok(applications);
+    }
+
     @Operation(
             summary = "Başvuruyu Kabul Et",
             description = "Bir başvuruyu kabul eder (Sadece ilanın sahibi kabul edebilir)"
@@ -155,6 +190,23 @@ public class JobApplicationController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Başvuru Durumlarını Toplu Güncelle",
+            description = "ID listesiyle ya da bir ilan için filtreyle (mevcut durum, deneyim aralığı) seçilen başvuruları tek seferde kabul eder, reddeder veya durumunu değiştirir (Sadece ilanın sahibi)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Başvurular başarıyla güncellendi"),
+            @ApiResponse(responseCode = "400", description = "Durum ya da seçim kriteri eksik"),
+            @ApiResponse(responseCode = "403", description = "Bu işlemi gerçekleştirme yetkiniz yok")
+    })
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<BulkApplicationStatusResponse> updateApplicationStatuses(
+            @Valid @RequestBody BulkApplicationStatusRequest request
+    ) {
+        BulkApplicationStatusResponse response = jobApplicationService.updateApplicationStatuses(request);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Başvuruyu Sil",
             description = "Bir başvuruyu siler (Sadece ilanın sahibi silebilir)"
@@ -3,6 +3,8 @@ package com.koberp.jobpost.controller;
 import com.koberp.jobpost.dto.JobPostRequest;
 import com.koberp.jobpost.dto.JobPostResponse;
 import com.koberp.jobpost.dto.JobPostStatusUpdateRequest;
+import com.koberp.jobpost.dto.JobPostSummaryResponse;
+import com.koberp.jobpost.dto.PageResponse;
 import com.koberp.jobpost.entity.JobPost;
 import com.koberp.jobpost.service.JobPostService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,6 +14,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -56,6 +59,24 @@ public class JobPostController {
         return ResponseEntity.ok(jobPosts);
     }
 
+    @Operation(
+            summary = "İlan Panosu",
+            description = "Açık (OPEN) ilanların özetlerini sayfalı olarak getirir; departman, konum ve çalışma şekline göre filtrelenebilir. Giriş gerektirmez."
+    )
+    @SecurityRequirements
+    @GetMapping("/board")
+    public ResponseEntity<PageResponse<JobPostSummaryResponse>> getJobBoard(
+            @Parameter(description = "Departman") @RequestParam(required = false) String department,
+            @Parameter(description = "Konum") @RequestParam(required = false) String location,
+            @Parameter(description = "Çalışma şekli") @RequestParam(required = false) String jobType,
+            @Parameter(description = "Sayfa numarası (0'dan başlar)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa boyutu (1-100)") @RequestParam(defaultValue = "20") int size
+    ) {
+        PageResponse<JobPostSummaryResponse> board = jobPostService.getJobBoard(blankToNull(department), blankToNull(location),
+                blankToNull(jobType), Math.max(page, 0), Math.max(1, Math.min(size, 100)));
+        return ResponseEntity.ok(board);
+    }
+
     @Operation(
             summary = "İş İlanı Detayı",
             description = "ID'ye göre belirli bir iş ilanının detaylarını getirir"
@@ -122,14 +143,14 @@ public class JobPostController {
 
     @Operation(
             summary = "İş İlanı Durumunu Güncelle",
-            description = "İş ilanının durumunu değiştirir (OPEN, PENDING, CLOSED)"
+            description = "İş ilanının durumunu değiştirir (OPEN, PENDING, CLOSED) ve ilanın özetini döner"
     )
     @PatchMapping("/{id}/status")
-    public ResponseEntity<JobPostResponse> updateJobPostStatus(
+    public ResponseEntity<JobPostSummaryResponse> updateJobPostStatus(
             @Parameter(description = "İş ilanı ID'si") @PathVariable Integer id,
             @Valid @RequestBody JobPostStatusUpdateRequest request
     ) {
-        JobPostResponse response = jobPostService.updateJobPostStatus(id, request.getPostStatus());
+        JobPostSummaryResponse response = jobPostService.updateJobPostStatus(id, request.getPostStatus());
         return ResponseEntity.ok(response);
     }
 
@@ -149,4 +170,8 @@ public class JobPostController {
         jobPostService.deleteJobPost(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 }
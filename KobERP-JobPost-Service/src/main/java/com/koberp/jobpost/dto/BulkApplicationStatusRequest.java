@@ -0,0 +1,48 @@
+package com.koberp.jobpost.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.koberp.jobpost.entity.JobApplication;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Toplu başvuru durumu güncellemesi. Başvurular ID listesiyle ya da bir ilan için filtreyle
+ * seçilir (ör. ilan X'teki tüm PENDING başvurular, yearsExperience < 2); verilen tüm
+ * koşullar AND ile birleştirilir.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationStatusRequest {
+
+    @NotNull(message = "Başvuru durumu gereklidir")
+    private JobApplication.ApplicationStatus applicationStatus;
+
+    @Size(max = 1000, message = "En fazla 1000 başvuru ID'si gönderilebilir")
+    private List<Integer> applicationIds;
+
+    private Integer jobPostingId;
+
+    private JobApplication.ApplicationStatus currentStatus;
+
+    // Alt sınır dahil, üst sınır hariç
+    private Double minYearsExperience;
+
+    private Double maxYearsExperience;
+
+    private String statusNotes;
+
+    private Integer reviewedBy;
+
+    @JsonIgnore
+    @AssertTrue(message = "Başvuru ID'leri ya da iş ilanı ID'si gereklidir")
+    public boolean isSelectionPresent() {
+        return (applicationIds != null && !applicationIds.isEmpty()) || jobPostingId != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.koberp.jobpost.dto;
+
+import com.koberp.jobpost.entity.JobApplication;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationStatusResponse {
+
+    private JobApplication.ApplicationStatus applicationStatus;
+    private int updatedCount;
+}
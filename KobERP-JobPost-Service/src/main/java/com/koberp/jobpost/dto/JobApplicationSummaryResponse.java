@@ -0,0 +1,31 @@
+package com.koberp.jobpost.dto;
+
+import com.koberp.jobpost.entity.JobApplication;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Başvuru listeleri için özet; coverLetter ve statusNotes metinlerini içermez, detay için
+ * başvuru ID'si ile sorgulanır.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationSummaryResponse {
+
+    private Integer id;
+    private Integer jobPostingId;
+    private String applicantName;
+    private String applicantEmail;
+    private String applicantPhone;
+    private Double yearsExperience;
+    private String cvFilePath;
+    private JobApplication.ApplicationStatus applicationStatus;
+    private LocalDateTime appliedAt;
+    private LocalDateTime updatedAt;
+    private Integer reviewedBy;
+    private LocalDateTime reviewedAt;
+}
@@ -39,5 +39,6 @@ public class JobPostResponse {
         this.jobDefinition = jobPost.getJobDefinition();
         this.requiredSkills = jobPost.getRequiredSkills();
         this.postStatus = jobPost.getPostStatus();
+        this.applicationCount = jobPost.getApplicationCount();
     }
 }
@@ -0,0 +1,28 @@
+package com.koberp.jobpost.dto;
+
+import com.koberp.jobpost.entity.JobPost;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * İlan panosu ve durum değişikliği için özet; uzun jobDefinition metnini içermez.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostSummaryResponse {
+
+    private Integer id;
+    private String postTitle;
+    private String department;
+    private String location;
+    private String salary;
+    private String jobType;
+    private LocalDate publishDate;
+    private LocalDate lastApplicationDate;
+    private String requiredSkills;
+    private JobPost.PostStatus postStatus;
+}
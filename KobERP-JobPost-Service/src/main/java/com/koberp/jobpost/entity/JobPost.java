@@ -52,6 +52,10 @@ public class JobPost {
     @Enumerated(EnumType.STRING)
     private PostStatus postStatus;
 
+    // Sadece atomik artırma/azaltma sorgularıyla değişir; entity kaydı bu kolonu hiç yazmaz
+    @Column(name = "application_count", nullable = false, updatable = false)
+    private Long applicationCount = 0L;
+
     public enum PostStatus {
         OPEN,      // Açık
         PENDING,   // Beklemede
@@ -0,0 +1,13 @@
+package com.koberp.jobpost.event;
+
+import lombok.Value;
+
+/**
+ * {@code JobPostService} bir ilanı sildiğinde yayınlanır. Bellekte durum tutan dinleyiciler
+ * {@code @TransactionalEventListener} ile dinlemeli; geri alınan silmeler hiç uygulanmaz.
+ */
+@Value
+public class JobPostDeletedEvent {
+
+    Integer jobPostId;
+}
@@ -0,0 +1,52 @@
+package com.koberp.jobpost.job;
+
+import com.koberp.jobpost.repository.JobPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * job_posts.application_count değerini job_applications üzerinden yeniden hesaplar.
+ * İlanlar id sırasıyla partiler halinde işlenir; her parti kendi transaction'ında önce ilan
+ * satırlarını kilitler, sonra sayar. Böylece o sırada gelen bir başvurunun artışı kaybolmaz:
+ * artış kilidi bekler ve düzeltilmiş değerin üzerine uygulanır.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationCountRepairJob {
+
+    private final JobPostRepository jobPostRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jobpost.application-count.repair-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${jobpost.application-count.repair-cron:0 0 4 * * *}")
+    public void repair() {
+        long start = System.currentTimeMillis();
+        int afterId = 0;
+        int repaired = 0;
+        Batch batch;
+        do {
+            int after = afterId;
+            batch = transactionTemplate.execute(status -> {
+                List<Integer> locked = jobPostRepository.lockIdsAfter(after, batchSize);
+                return new Batch(locked, locked.isEmpty() ? 0 : jobPostRepository.recomputeApplicationCounts(locked));
+            });
+            repaired += batch.repaired();
+            if (!batch.ids().isEmpty()) {
+                afterId = batch.ids().get(batch.ids().size() - 1);
+            }
+        } while (batch.ids().size() == batchSize);
+        log.info("Application count repair fixed {} job posts in {} ms", repaired, System.currentTimeMillis() - start);
+    }
+
+    private record Batch(List<Integer> ids, int repaired) {
+    }
+}
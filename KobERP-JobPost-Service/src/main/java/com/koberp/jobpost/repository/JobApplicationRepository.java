@@ -1,14 +1,30 @@
 package com.koberp.jobpost.repository;
 
+import com.koberp.jobpost.dto.JobApplicationSummaryResponse;
 import com.koberp.jobpost.entity.JobApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Integer> {
     
+    // Arama filtresi: deneyim aralığının iki ucu da dahil. Toplu güncellemede üst sınır hariçtir
+    String SUMMARY_FILTER = "(:jobPostingId IS NULL OR a.jobPostingId = :jobPostingId) " +
+            "AND (:status IS NULL OR a.applicationStatus = :status) " +
+            "AND (:minYears IS NULL OR a.yearsExperience >= :minYears) " +
+            "AND (:maxYears IS NULL OR a.yearsExperience <= :maxYears) " +
+            "AND (:appliedFrom IS NULL OR a.appliedAt >= :appliedFrom) " +
+            "AND (:appliedTo IS NULL OR a.appliedAt < :appliedTo)";
+    
     List<JobApplication> findByJobPostingId(Integer jobPostingId);
     
     List<JobApplication> findByApplicationStatus(JobApplication.ApplicationStatus applicationStatus);
@@ -19,4 +35,61 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     );
     
     long countByJobPostingId(Integer jobPostingId);
+    
+    /**
+     * Başvuru özetleri, sayfalı; boş (null) filtreler yok sayılır. appliedTo hariçtir.
+     */
+    @Query(value = "SELECT new com.koberp.jobpost.dto.JobApplicationSummaryResponse(a.id, a.jobPostingId, " +
+                   "a.applicantName, a.applicantEmail, a.applicantPhone, a.yearsExperience, a.cvFilePath, " +
+                   "a.applicationStatus, a.appliedAt, a.updatedAt, a.reviewedBy, a.reviewedAt) " +
+                   "FROM JobApplication a WHERE " + SUMMARY_FILTER,
+           countQuery = "SELECT COUNT(a) FROM JobApplication a WHERE " + SUMMARY_FILTER)
+    Page<JobApplicationSummaryResponse> findSummaries(@Param("jobPostingId") Integer jobPostingId,
+                                                      @Param("status") JobApplication.ApplicationStatus status,
+                                                      @Param("minYears") Double minYears,
+                                                      @Param("maxYears") Double maxYears,
+                                                      @Param("appliedFrom") LocalDateTime appliedFrom,
+                                                      @Param("appliedTo") LocalDateTime appliedTo,
+                                                      Pageable pageable);
+    
+    @Query("SELECT DISTINCT a.jobPostingId FROM JobApplication a WHERE a.id IN :ids")
+    List<Integer> findJobPostingIdsByIds(@Param("ids") Collection<Integer> ids);
+    
+    /**
+     * Seçilen başvuruların durumunu tek UPDATE ile değiştirir. Yalnızca {@code jobPostingIds}
+     * içindeki ilanların başvuruları güncellenir; boş (null) filtreler yok sayılır. Deneyim alt
+     * sınırı dahil, üst sınırı hariçtir.
+     */
+    @Modifying
+    @Query("UPDATE JobApplication a SET a.applicationStatus = :status, a.statusNotes = :statusNotes, " +
+           "a.reviewedBy = :reviewedBy, a.reviewedAt = :now, a.updatedAt = :now " +
+           "WHERE a.id IN :ids AND a.jobPostingId IN :jobPostingIds " +
+           "AND (:currentStatus IS NULL OR a.applicationStatus = :currentStatus) " +
+           "AND (:minYears IS NULL OR a.yearsExperience >= :minYears) " +
+           "AND (:maxYears IS NULL OR a.yearsExperience < :maxYears)")
+    int updateStatusByIds(@Param("ids") Collection<Integer> ids,
+                          @Param("jobPostingIds") Collection<Integer> jobPostingIds,
+                          @Param("currentStatus") JobApplication.ApplicationStatus currentStatus,
+                          @Param("minYears") Double minYears,
+                          @Param("maxYears") Double maxYears,
+                          @Param("status") JobApplication.ApplicationStatus status,
+                          @Param("statusNotes") String statusNotes,
+                          @Param("reviewedBy") Integer reviewedBy,
+                          @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE JobApplication a SET a.applicationStatus = :status, a.statusNotes = :statusNotes, " +
+           "a.reviewedBy = :reviewedBy, a.reviewedAt = :now, a.updatedAt = :now " +
+           "WHERE a.jobPostingId = :jobPostingId " +
+           "AND (:currentStatus IS NULL OR a.applicationStatus = :currentStatus) " +
+           "AND (:minYears IS NULL OR a.yearsExperience >= :minYears) " +
+           "AND (:maxYears IS NULL OR a.yearsExperience < :maxYears)")
+    int updateStatusByJobPost(@Param("jobPostingId") Integer jobPostingId,
+                              @Param("currentStatus") JobApplication.ApplicationStatus currentStatus,
+                              @Param("minYears") Double minYears,
+                              @Param("maxYears") Double maxYears,
+                              @Param("status") JobApplication.ApplicationStatus status,
+                              @Param("statusNotes") String statusNotes,
+                              @Param("reviewedBy") Integer reviewedBy,
+                              @Param("now") LocalDateTime now);
 }
@@ -1,17 +1,97 @@
 package com.koberp.jobpost.repository;
 
+import com.koberp.jobpost.dto.JobPostSummaryResponse;
 import com.koberp.jobpost.entity.JobPost;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobPostRepository extends JpaRepository<JobPost, Integer> {
     
+    String SUMMARY = "new com.koberp.jobpost.dto.JobPostSummaryResponse(p.id, p.postTitle, p.department, " +
+                     "p.location, p.salary, p.jobType, p.publishDate, p.lastApplicationDate, p.requiredSkills, " +
+                     "p.postStatus)";
+    
     List<JobPost> findByOwnerId(String ownerId);
     
     List<JobPost> findByPostStatus(JobPost.PostStatus postStatus);
     
     List<JobPost> findByOwnerIdAndPostStatus(String ownerId, JobPost.PostStatus postStatus);
+    
+    /**
+     * İlan panosu: verilen durumdaki ilanların özetleri, boş filtreler yok sayılır.
+     * jobDefinition seçilmez.
+     */
+    @Query(value = "SELECT " + SUMMARY + " FROM JobPost p WHERE p.postStatus = :status " +
+                   "AND (:department IS NULL OR p.department = :department) " +
+                   "AND (:location IS NULL OR p.location = :location) " +
+                   "AND (:jobType IS NULL OR p.jobType = :jobType)",
+           countQuery = "SELECT COUNT(p) FROM JobPost p WHERE p.postStatus = :status " +
+                        "AND (:department IS NULL OR p.department = :department) " +
+                        "AND (:location IS NULL OR p.location = :location) " +
+                        "AND (:jobType IS NULL OR p.jobType = :jobType)")
+    Page<JobPostSummaryResponse> findSummaries(@Param("status") JobPost.PostStatus status,
+                                               @Param("department") String department,
+                                               @Param("location") String location,
+                                               @Param("jobType") String jobType,
+                                               Pageable pageable);
+    
+    /**
+     * Tek ilanın özeti; jobDefinition seçilmez.
+     */
+    @Query("SELECT " + SUMMARY + " FROM JobPost p WHERE p.id = :id")
+    Optional<JobPostSummaryResponse> findSummaryById(@Param("id") Integer id);
+    
+    @Query("SELECT p.ownerId FROM JobPost p WHERE p.id = :id")
+    Optional<String> findOwnerIdById(@Param("id") Integer id);
+    
+    /**
+     * Sahiplik kontrolü WHERE koşulunda; ilan yoksa ya da sahibi farklıysa 0 döner.
+     */
+    @Modifying
+    @Query("UPDATE JobPost p SET p.postStatus = :status WHERE p.id = :id AND p.ownerId = :ownerId")
+    int updateStatusIfOwner(@Param("id") Integer id,
+                            @Param("ownerId") String ownerId,
+                            @Param("status") JobPost.PostStatus status);
+    
+    @Modifying
+    @Query("DELETE FROM JobPost p WHERE p.id = :id AND p.ownerId = :ownerId")
+    int deleteIfOwner(@Param("id") Integer id, @Param("ownerId") String ownerId);
+    
+    /**
+     * Başvuru sayısını veritabanında atomik olarak değiştirir; eşzamanlı başvurular birbirinin
+     * artışını ezmez. Güncellenen satır sayısını döner (ilan yoksa 0).
+     */
+    @Modifying
+    @Query(value = "UPDATE job_posts SET application_count = application_count + :delta WHERE id = :id",
+           nativeQuery = true)
+    int incrementApplicationCount(@Param("id") Integer id, @Param("delta") int delta);
+    
+    /**
+     * {@code afterId}'den sonraki en fazla {@code limit} ilanı id sırasıyla kilitler ve id'lerini döner.
+     */
+    @Query(value = "SELECT id FROM job_posts WHERE id > :afterId ORDER BY id LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<Integer> lockIdsAfter(@Param("afterId") Integer afterId, @Param("limit") int limit);
+    
+    /**
+     * Verilen ilanların başvuru sayısını job_applications üzerinden yeniden hesaplar; yalnızca
+     * sapmış satırları günceller ve düzeltilen satır sayısını döner.
+     */
+    @Modifying
+    @Query(value = "UPDATE job_posts p SET application_count = c.count " +
+                   "FROM (SELECT p2.id, COUNT(a.id) AS count FROM job_posts p2 " +
+                   "LEFT JOIN job_applications a ON a.job_posting_id = p2.id " +
+                   "WHERE p2.id IN (:ids) GROUP BY p2.id) c " +
+                   "WHERE p.id = c.id AND p.application_count <> c.count",
+           nativeQuery = true)
+    int recomputeApplicationCounts(@Param("ids") List<Integer> ids);
 }
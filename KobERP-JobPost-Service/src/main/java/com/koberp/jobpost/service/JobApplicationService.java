@@ -1,27 +1,37 @@
 package com.koberp.jobpost.service;
 
+import com.koberp.jobpost.dto.BulkApplicationStatusRequest;
+import com.koberp.jobpost.dto.BulkApplicationStatusResponse;
 import com.koberp.jobpost.dto.JobApplicationRequest;
 import com.koberp.jobpost.dto.JobApplicationResponse;
+import com.koberp.jobpost.dto.JobApplicationSummaryResponse;
+import com.koberp.jobpost.dto.PageResponse;
 import com.koberp.jobpost.entity.JobApplication;
-import com.koberp.jobpost.entity.JobPost;
 import com.koberp.jobpost.repository.JobApplicationRepository;
 import com.koberp.jobpost.repository.JobPostRepository;
-import com.koberp.jobpost.util.AuthenticationUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JobApplicationService {
 
+    private static final Set<String> SORTABLE_FIELDS =
+            Set.of("appliedAt", "updatedAt", "yearsExperience", "applicantName", "applicationStatus", "id");
+
     private final JobApplicationRepository jobApplicationRepository;
     private final JobPostRepository jobPostRepository;
-    private final AuthenticationUtil authenticationUtil;
+    private final JobPostOwnershipService jobPostOwnershipService;
 
     @Transactional
     public JobApplicationResponse createApplication(JobApplicationRequest request) {
@@ -41,6 +51,11 @@ public class JobApplicationService {
         }
 
         JobApplication savedApplication = jobApplicationRepository.save(application);
+        
+        // Başvuru sayısı aynı transaction içinde atomik olarak artırılır
+        if (jobPostRepository.incrementApplicationCount(request.getJobPostingId(), 1) == 0) {
+            throw new RuntimeException("İş ilanı bulunamadı: " + request.getJobPostingId());
+        }
         return new JobApplicationResponse(savedApplication);
     }
 
@@ -58,13 +73,7 @@ public class JobApplicationService {
 
     public List<JobApplicationResponse> getApplicationsByJobPostId(Integer jobPostingId) {
         // İş ilanının sahibi kontrolü
-        JobPost jobPost = jobPostRepository.findById(jobPostingId)
-                .orElseThrow(() -> new RuntimeException("İş ilanı bulunamadı: " + jobPostingId));
-        
-        String currentUserId = authenticationUtil.getCurrentUserId();
-        if (!jobPost.getOwnerId().equals(currentUserId)) {
-            throw new RuntimeException("Bu iş ilanının başvurularını görüntüleme yetkiniz yok");
-        }
+        jobPostOwnershipService.validateOwnership(jobPostingId, "Bu iş ilanının başvurularını görüntüleme yetkiniz yok");
         
         return jobApplicationRepository.findByJobPostingId(jobPostingId).stream()
                 .map(JobApplicationResponse::new)
@@ -77,6 +86,44 @@ public class JobApplicationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Başvuruları sayfalı ve filtreli olarak, ön yazı ve notlar olmadan getirir.
+     * Tarih aralığı gün bazındadır ve her iki uç dahildir; detay için getApplicationById kullanılır.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<JobApplicationSummaryResponse> searchApplications(
+            Integer jobPostingId,
+            JobApplication.ApplicationStatus status,
+            Double minYearsExperience,
+            Double maxYearsExperience,
+            LocalDate appliedFrom,
+            LocalDate appliedTo,
+            int page,
+            int size,
+            String sortBy,
+            Sort.Direction direction) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new RuntimeException("Geçersiz sıralama alanı: " + sortBy + " (geçerli alanlar: " + SORTABLE_FIELDS + ")");
+        }
+        if (jobPostingId != null) {
+            jobPostOwnershipService.validateOwnership(jobPostingId, "Bu iş ilanının başvurularını görüntüleme yetkiniz yok");
+        }
+
+        // Aynı değerli satırlar sayfalar arasında kaymasın diye ID ile ikincil sıralama
+        Sort sort = Sort.by(direction, sortBy);
+        if (!"id".equals(sortBy)) {
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+        return new PageResponse<>(jobApplicationRepository.findSummaries(
+                jobPostingId,
+                status,
+                minYearsExperience,
+                maxYearsExperience,
+                appliedFrom != null ? appliedFrom.atStartOfDay() : null,
+                appliedTo != null ? appliedTo.plusDays(1).atStartOfDay() : null,
+                PageRequest.of(page, size, sort)));
+    }
+
     @Transactional
     public JobApplicationResponse acceptApplication(Integer id, Integer reviewedBy, String statusNotes) {
         JobApplication application = jobApplicationRepository.findById(id)
@@ -133,6 +180,38 @@ public class JobApplicationService {
         return new JobApplicationResponse(updatedApplication);
     }
 
+    /**
+     * Başvuruların durumunu toplu olarak günceller. Sahiplik ilan başına bir kez kontrol edilir,
+     * değişiklik tek bir set tabanlı UPDATE ile uygulanır.
+     */
+    @Transactional
+    public BulkApplicationStatusResponse updateApplicationStatuses(BulkApplicationStatusRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated;
+        if (request.getApplicationIds() != null && !request.getApplicationIds().isEmpty()) {
+            List<Integer> jobPostingIds = new ArrayList<>(
+                    jobApplicationRepository.findJobPostingIdsByIds(request.getApplicationIds()));
+            if (request.getJobPostingId() != null) {
+                jobPostingIds.retainAll(List.of(request.getJobPostingId()));
+            }
+            if (jobPostingIds.isEmpty()) {
+                return new BulkApplicationStatusResponse(request.getApplicationStatus(), 0);
+            }
+            // İş ilanlarının sahibi kontrolü, ilan başına bir kez
+            jobPostingIds.forEach(this::validateJobPostOwnership);
+            updated = jobApplicationRepository.updateStatusByIds(request.getApplicationIds(), jobPostingIds,
+                    request.getCurrentStatus(), request.getMinYearsExperience(), request.getMaxYearsExperience(),
+                    request.getApplicationStatus(), request.getStatusNotes(), request.getReviewedBy(), now);
+        } else {
+            // İş ilanının sahibi kontrolü
+            validateJobPostOwnership(request.getJobPostingId());
+            updated = jobApplicationRepository.updateStatusByJobPost(request.getJobPostingId(),
+                    request.getCurrentStatus(), request.getMinYearsExperience(), request.getMaxYearsExperience(),
+                    request.getApplicationStatus(), request.getStatusNotes(), request.getReviewedBy(), now);
+        }
+        return new BulkApplicationStatusResponse(request.getApplicationStatus(), updated);
+    }
+
     @Transactional
     public void deleteApplication(Integer id) {
         JobApplication application = jobApplicationRepository.findById(id)
@@ -142,18 +221,13 @@ public class JobApplicationService {
         validateJobPostOwnership(application.getJobPostingId());
         
         jobApplicationRepository.deleteById(id);
+        jobPostRepository.incrementApplicationCount(application.getJobPostingId(), -1);
     }
 
     /**
      * İş ilanının sahibi olup olmadığını kontrol eder
      */
     private void validateJobPostOwnership(Integer jobPostingId) {
-        JobPost jobPost = jobPostRepository.findById(jobPostingId)
-                .orElseThrow(() -> new RuntimeException("İş ilanı bulunamadı: " + jobPostingId));
-        
-        String currentUserId = authenticationUtil.getCurrentUserId();
-        if (!jobPost.getOwnerId().equals(currentUserId)) {
-            throw new RuntimeException("Bu işlemi gerçekleştirme yetkiniz yok");
-        }
+        jobPostOwnershipService.validateOwnership(jobPostingId, "Bu işlemi gerçekleştirme yetkiniz yok");
     }
 }
@@ -0,0 +1,54 @@
+package com.koberp.jobpost.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.koberp.jobpost.event.JobPostDeletedEvent;
+import com.koberp.jobpost.repository.JobPostRepository;
+import com.koberp.jobpost.util.AuthenticationUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * İlan sahipliği kontrolleri. İlanın sahibi oluşturulduktan sonra değişmediği için ilan ID'si →
+ * sahip ID'si eşlemesi bellekte tutulur; kontrol çoğunlukla bir map okumasıdır, gerektiğinde
+ * yalnızca owner_id kolonu sorgulanır, ilanın tamamı yüklenmez.
+ */
+@Service
+public class JobPostOwnershipService {
+
+    private final JobPostRepository jobPostRepository;
+    private final AuthenticationUtil authenticationUtil;
+    private final Cache<Integer, String> owners;
+
+    public JobPostOwnershipService(JobPostRepository jobPostRepository,
+                                   AuthenticationUtil authenticationUtil,
+                                   @Value("${jobpost.owner-cache.maximum-size:100000}") long maximumSize) {
+        this.jobPostRepository = jobPostRepository;
+        this.authenticationUtil = authenticationUtil;
+        this.owners = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * İlan yoksa "bulunamadı", sahibi giriş yapan kullanıcı değilse {@code deniedMessage} ile hata fırlatır
+     */
+    public void validateOwnership(Integer jobPostId, String deniedMessage) {
+        String ownerId = owners.get(jobPostId, id -> jobPostRepository.findOwnerIdById(id).orElse(null));
+        if (ownerId == null) {
+            throw new RuntimeException("İş ilanı bulunamadı: " + jobPostId);
+        }
+        if (!ownerId.equals(authenticationUtil.getCurrentUserId())) {
+            throw new RuntimeException(deniedMessage);
+        }
+    }
+
+    /**
+     * Silinen ilanın kaydını commit sonrası bırakır; silme geri alınırsa kayıt geçerli kalır
+     */
+    @TransactionalEventListener
+    public void onJobPostDeleted(JobPostDeletedEvent event) {
+        owners.invalidate(event.getJobPostId());
+    }
+}
@@ -2,11 +2,18 @@ package com.koberp.jobpost.service;
 
 import com.koberp.jobpost.dto.JobPostRequest;
 import com.koberp.jobpost.dto.JobPostResponse;
+import com.koberp.jobpost.dto.JobPostSummaryResponse;
+import com.koberp.jobpost.dto.PageResponse;
 import com.koberp.jobpost.entity.JobPost;
-import com.koberp.jobpost.repository.JobApplicationRepository;
+import com.koberp.jobpost.event.JobPostDeletedEvent;
 import com.koberp.jobpost.repository.JobPostRepository;
 import com.koberp.jobpost.util.AuthenticationUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,10 +24,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JobPostService {
 
+    public static final String JOB_BOARD_CACHE = "jobBoard";
+
     private final JobPostRepository jobPostRepository;
-    private final JobApplicationRepository jobApplicationRepository;
+    private final JobPostOwnershipService jobPostOwnershipService;
     private final AuthenticationUtil authenticationUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @CacheEvict(cacheNames = JOB_BOARD_CACHE, allEntries = true)
     @Transactional
     public JobPostResponse createJobPost(JobPostRequest request) {
         // Token'dan user ID'yi otomatik al
@@ -41,23 +52,18 @@ public class JobPostService {
 
         JobPost savedJobPost = jobPostRepository.save(jobPost);
         
-        JobPostResponse response = new JobPostResponse(savedJobPost);
-        response.setApplicationCount(0L);
-        return response;
+        return new JobPostResponse(savedJobPost);
     }
 
+    @CacheEvict(cacheNames = JOB_BOARD_CACHE, allEntries = true)
     @Transactional
     public JobPostResponse updateJobPost(Integer id, JobPostRequest request) {
-        String currentUserId = authenticationUtil.getCurrentUserId();
-        
+        // Sadece sahibi olan kullanıcı güncelleyebilir; ilan yalnızca kontrol geçerse yüklenir
+        jobPostOwnershipService.validateOwnership(id, "Bu iş ilanını güncelleme yetkiniz yok");
+
         JobPost jobPost = jobPostRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("İş ilanı bulunamadı: " + id));
 
-        // Sadece sahibi olan kullanıcı güncelleyebilir
-        if (!jobPost.getOwnerId().equals(currentUserId)) {
-            throw new RuntimeException("Bu iş ilanını güncelleme yetkiniz yok");
-        }
-
         jobPost.setPostTitle(request.getPostTitle());
         jobPost.setDepartment(request.getDepartment());
         jobPost.setLocation(request.getLocation());
@@ -71,43 +77,30 @@ public class JobPostService {
 
         JobPost updatedJobPost = jobPostRepository.save(jobPost);
         
-        JobPostResponse response = new JobPostResponse(updatedJobPost);
-        response.setApplicationCount(jobApplicationRepository.countByJobPostingId(id));
-        return response;
+        return new JobPostResponse(updatedJobPost);
     }
 
+    @CacheEvict(cacheNames = JOB_BOARD_CACHE, allEntries = true)
     @Transactional
     public void deleteJobPost(Integer id) {
         String currentUserId = authenticationUtil.getCurrentUserId();
         
-        JobPost jobPost = jobPostRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("İş ilanı bulunamadı: " + id));
-        
-        // Sadece sahibi olan kullanıcı silebilir
-        if (!jobPost.getOwnerId().equals(currentUserId)) {
-            throw new RuntimeException("Bu iş ilanını silme yetkiniz yok");
+        // Sadece sahibi olan kullanıcı silebilir; sahiplik DELETE koşulunda kontrol edilir
+        if (jobPostRepository.deleteIfOwner(id, currentUserId) == 0) {
+            jobPostOwnershipService.validateOwnership(id, "Bu iş ilanını silme yetkiniz yok");
         }
-        
-        jobPostRepository.deleteById(id);
+        eventPublisher.publishEvent(new JobPostDeletedEvent(id));
     }
 
     public JobPostResponse getJobPostById(Integer id) {
         JobPost jobPost = jobPostRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("İş ilanı bulunamadı: " + id));
         
-        JobPostResponse response = new JobPostResponse(jobPost);
-        response.setApplicationCount(jobApplicationRepository.countByJobPostingId(id));
-        return response;
+        return new JobPostResponse(jobPost);
     }
 
     public List<JobPostResponse> getAllJobPosts() {
-        return jobPostRepository.findAll().stream()
-                .map(jobPost -> {
-                    JobPostResponse response = new JobPostResponse(jobPost);
-                    response.setApplicationCount(jobApplicationRepository.countByJobPostingId(jobPost.getId()));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toResponses(jobPostRepository.findAll());
     }
 
     public List<JobPostResponse> getJobPostsByOwnerId(String ownerId) {
@@ -118,43 +111,48 @@ public class JobPostService {
             throw new RuntimeException("Bu iş ilanlarını görüntüleme yetkiniz yok");
         }
         
-        return jobPostRepository.findByOwnerId(ownerId).stream()
-                .map(jobPost -> {
-                    JobPostResponse response = new JobPostResponse(jobPost);
-                    response.setApplicationCount(jobApplicationRepository.countByJobPostingId(jobPost.getId()));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toResponses(jobPostRepository.findByOwnerId(ownerId));
     }
 
     public List<JobPostResponse> getJobPostsByStatus(JobPost.PostStatus status) {
-        return jobPostRepository.findByPostStatus(status).stream()
-                .map(jobPost -> {
-                    JobPostResponse response = new JobPostResponse(jobPost);
-                    response.setApplicationCount(jobApplicationRepository.countByJobPostingId(jobPost.getId()));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toResponses(jobPostRepository.findByPostStatus(status));
     }
 
+    @CacheEvict(cacheNames = JOB_BOARD_CACHE, allEntries = true)
     @Transactional
-    public JobPostResponse updateJobPostStatus(Integer id, JobPost.PostStatus status) {
+    public JobPostSummaryResponse updateJobPostStatus(Integer id, JobPost.PostStatus status) {
         String currentUserId = authenticationUtil.getCurrentUserId();
-        
-        JobPost jobPost = jobPostRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("İş ilanı bulunamadı: " + id));
 
-        // Sadece sahibi olan kullanıcı durumu değiştirebilir
-        if (!jobPost.getOwnerId().equals(currentUserId)) {
-            throw new RuntimeException("Bu iş ilanının durumunu değiştirme yetkiniz yok");
+        // Sadece sahibi olan kullanıcı durumu değiştirebilir; sahiplik UPDATE koşulunda kontrol edilir
+        if (jobPostRepository.updateStatusIfOwner(id, currentUserId, status) == 0) {
+            jobPostOwnershipService.validateOwnership(id, "Bu iş ilanının durumunu değiştirme yetkiniz yok");
         }
 
-        jobPost.setPostStatus(status);
-        JobPost updatedJobPost = jobPostRepository.save(jobPost);
-        
-        JobPostResponse response = new JobPostResponse(updatedJobPost);
-        response.setApplicationCount(jobApplicationRepository.countByJobPostingId(id));
-        return response;
+        // Yanıt özetten oluşur; jobDefinition metni yüklenmez
+        return jobPostRepository.findSummaryById(id)
+                .orElseThrow(() -> new RuntimeException("İş ilanı bulunamadı: " + id));
+    }
+
+    /**
+     * Herkese açık ilan panosu: OPEN ilanların özetleri, en yeni yayın önce. Sonuçlar cache'ten
+     * döner; ilan oluşturma, güncelleme, durum değişikliği ve silme cache'i temizler.
+     */
+    @Cacheable(cacheNames = JOB_BOARD_CACHE)
+    @Transactional(readOnly = true)
+    public PageResponse<JobPostSummaryResponse> getJobBoard(String department, String location, String jobType, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size,
+                Sort.by(Sort.Order.desc("publishDate"), Sort.Order.desc("id")));
+        return new PageResponse<>(jobPostRepository.findSummaries(
+                JobPost.PostStatus.OPEN, department, location, jobType, pageRequest));
+    }
+
+    /**
+     * Başvuru sayısı ilan satırında tutulduğu için listeler ek sorgu gerektirmez
+     */
+    private List<JobPostResponse> toResponses(List<JobPost> jobPosts) {
+        return jobPosts.stream()
+                .map(JobPostResponse::new)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -0,0 +1,62 @@
+package com.koberp.jobpost.controller;
+
+import com.koberp.jobpost.config.SecurityConfig;
+import com.koberp.jobpost.dto.PageResponse;
+import com.koberp.jobpost.service.JobPostService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * İlan panosunun token olmadan açık, diğer ilan uçlarının kapalı olduğunu uygulamanın güvenlik
+ * yapılandırmasıyla doğrular.
+ */
+@WebMvcTest(JobPostController.class)
+@Import(SecurityConfig.class)
+class JobPostControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JobPostService jobPostService;
+
+    // Issuer adresine bağlanmadan context'i kurar
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Test
+    void anonymousBoardRequestIsPermitted() throws Exception {
+        when(jobPostService.getJobBoard(isNull(), isNull(), isNull(), any(Integer.class), any(Integer.class)))
+                .thenReturn(new PageResponse<>(Page.empty()));
+
+        mockMvc.perform(get("/api/job-posts/board"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void anonymousRequestsToOtherJobPostEndpointsAreRejected() throws Exception {
+        mockMvc.perform(get("/api/job-posts"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/job-posts/board").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(jobPostService);
+    }
+}
@@ -0,0 +1,88 @@
+package com.koberp.jobpost.repository;
+
+import com.koberp.jobpost.dto.JobApplicationSummaryResponse;
+import com.koberp.jobpost.entity.JobApplication;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deneyim üst sınırı aramada dahil, toplu durum güncellemesinde hariçtir.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.default_schema="
+})
+class JobApplicationRepositoryTest {
+
+    private static final int JOB_POSTING_ID = 1;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (double years : new double[] {1.0, 2.0, 3.0}) {
+            JobApplication application = new JobApplication();
+            application.setJobPostingId(JOB_POSTING_ID);
+            application.setApplicantName("Aday " + years);
+            application.setApplicantEmail("aday" + (int) years + "@example.com");
+            application.setYearsExperience(years);
+            jobApplicationRepository.save(application);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void searchIncludesTheUpperBound() {
+        List<Double> years = jobApplicationRepository.findSummaries(JOB_POSTING_ID, null, 1.0, 2.0, null, null,
+                        PageRequest.of(0, 10, Sort.by("yearsExperience")))
+                .map(JobApplicationSummaryResponse::getYearsExperience)
+                .getContent();
+
+        assertThat(years).containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void bulkUpdateByJobPostExcludesTheUpperBound() {
+        int updated = jobApplicationRepository.updateStatusByJobPost(JOB_POSTING_ID,
+                JobApplication.ApplicationStatus.PENDING, null, 2.0, JobApplication.ApplicationStatus.REJECTED,
+                "Deneyim gereksinimi karşılanmıyor", 1, LocalDateTime.now());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(rejectedYears()).containsExactly(1.0);
+    }
+
+    @Test
+    void bulkUpdateByIdsExcludesTheUpperBound() {
+        List<Integer> ids = jobApplicationRepository.findAll().stream().map(JobApplication::getId).toList();
+
+        int updated = jobApplicationRepository.updateStatusByIds(ids, List.of(JOB_POSTING_ID), null, 1.0, 3.0,
+                JobApplication.ApplicationStatus.REJECTED, null, 1, LocalDateTime.now());
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(rejectedYears()).containsExactly(1.0, 2.0);
+    }
+
+    private List<Double> rejectedYears() {
+        entityManager.clear();
+        return jobApplicationRepository.findByApplicationStatus(JobApplication.ApplicationStatus.REJECTED).stream()
+                .map(JobApplication::getYearsExperience)
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,149 @@
+package com.koberp.jobpost.service;
+
+import com.koberp.jobpost.dto.JobApplicationRequest;
+import com.koberp.jobpost.entity.JobPost;
+import com.koberp.jobpost.job.ApplicationCountRepairJob;
+import com.koberp.jobpost.repository.JobApplicationRepository;
+import com.koberp.jobpost.repository.JobPostRepository;
+import com.koberp.jobpost.support.PostgresTestDatabase;
+import com.koberp.jobpost.util.AuthenticationUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * job_posts.application_count'un başvuru ekleme/silmede atomik olarak değiştiğini ve onarım işinin
+ * sapmış sayıları düzelttiğini PostgreSQL üzerinde doğrular; her servis çağrısı kendi transaction'ında
+ * commit edilir.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JobApplicationService.class, JobPostOwnershipService.class, ApplicationCountRepairJob.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobApplicationCountTest {
+
+    private static final String OWNER_ID = "owner-1";
+
+    @BeforeAll
+    static void requirePostgres() {
+        PostgresTestDatabase.assumeAvailable();
+    }
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private ApplicationCountRepairJob applicationCountRepairJob;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AuthenticationUtil authenticationUtil;
+
+    @BeforeEach
+    void setUp() {
+        when(authenticationUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobApplicationRepository.deleteAll();
+        jobPostRepository.deleteAll();
+    }
+
+    @Test
+    void createAndDeleteMoveTheCountByOne() {
+        Integer jobPostId = createJobPost();
+
+        Integer first = jobApplicationService.createApplication(request(jobPostId, "aday1@example.com")).getId();
+        jobApplicationService.createApplication(request(jobPostId, "aday2@example.com"));
+        assertThat(applicationCount(jobPostId)).isEqualTo(2);
+
+        jobApplicationService.deleteApplication(first);
+        assertThat(applicationCount(jobPostId)).isEqualTo(1);
+    }
+
+    @Test
+    void applicationToAMissingJobPostIsRejectedAndRolledBack() {
+        Integer missing = createJobPost() + 1000;
+
+        assertThatThrownBy(() -> jobApplicationService.createApplication(request(missing, "aday@example.com")))
+                .hasMessage("İş ilanı bulunamadı: " + missing);
+        assertThat(jobApplicationRepository.count()).as("saved application rolled back").isZero();
+    }
+
+    @Test
+    void repairFixesDriftedCountsAcrossBatches() {
+        ReflectionTestUtils.setField(applicationCountRepairJob, "batchSize", 2);
+        Integer drifted = createJobPost();
+        Integer correct = createJobPost();
+        Integer empty = createJobPost();
+        jobApplicationService.createApplication(request(drifted, "aday1@example.com"));
+        jobApplicationService.createApplication(request(drifted, "aday2@example.com"));
+        jobApplicationService.createApplication(request(correct, "aday3@example.com"));
+        jdbcTemplate.update("UPDATE job_posts SET application_count = 7 WHERE id = ?", drifted);
+        jdbcTemplate.update("UPDATE job_posts SET application_count = 3 WHERE id = ?", empty);
+
+        applicationCountRepairJob.repair();
+
+        assertThat(applicationCount(drifted)).isEqualTo(2);
+        assertThat(applicationCount(correct)).isEqualTo(1);
+        assertThat(applicationCount(empty)).isZero();
+    }
+
+    private long applicationCount(Integer jobPostId) {
+        return jdbcTemplate.queryForObject("SELECT application_count FROM job_posts WHERE id = ?", Long.class, jobPostId);
+    }
+
+    private static JobApplicationRequest request(Integer jobPostId, String email) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setJobPostingId(jobPostId);
+        request.setApplicantName("Aday");
+        request.setApplicantEmail(email);
+        request.setYearsExperience(2.0);
+        return request;
+    }
+
+    private Integer createJobPost() {
+        JobPost jobPost = new JobPost();
+        jobPost.setOwnerId(OWNER_ID);
+        jobPost.setPostTitle("Yazılım Geliştirici");
+        jobPost.setDepartment("IT");
+        jobPost.setLocation("İstanbul");
+        jobPost.setJobType("FULL_TIME");
+        jobPost.setPublishDate(LocalDate.of(2024, 1, 1));
+        jobPost.setJobDefinition("İlan metni");
+        jobPost.setPostStatus(JobPost.PostStatus.OPEN);
+        return jobPostRepository.save(jobPost).getId();
+    }
+}
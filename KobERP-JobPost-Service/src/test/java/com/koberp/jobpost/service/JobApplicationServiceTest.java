@@ -0,0 +1,210 @@
+package com.koberp.jobpost.service;
+
+import com.koberp.jobpost.dto.BulkApplicationStatusRequest;
+import com.koberp.jobpost.dto.BulkApplicationStatusResponse;
+import com.koberp.jobpost.entity.JobApplication;
+import com.koberp.jobpost.entity.JobPost;
+import com.koberp.jobpost.repository.JobApplicationRepository;
+import com.koberp.jobpost.repository.JobPostRepository;
+import com.koberp.jobpost.util.AuthenticationUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Toplu başvuru durumu güncellemesinin sahipliği ilan başına bir kez kontrol ettiğini, seçimi
+ * verilen ilanla sınırladığını ve güncellenen satır sayısını döndüğünü doğrular.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.default_schema="
+})
+@Import({JobApplicationService.class, JobPostOwnershipService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobApplicationServiceTest {
+
+    private static final String OWNER_ID = "owner-1";
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @SpyBean
+    private JobPostOwnershipService jobPostOwnershipService;
+
+    @MockBean
+    private AuthenticationUtil authenticationUtil;
+
+    @BeforeEach
+    void setUp() {
+        when(authenticationUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobApplicationRepository.deleteAll();
+        jobPostRepository.deleteAll();
+    }
+
+    @Test
+    void ownershipIsCheckedOncePerJobPost() {
+        Integer first = createJobPost(OWNER_ID);
+        Integer second = createJobPost(OWNER_ID);
+        List<Integer> ids = new ArrayList<>(createApplications(first, 3));
+        ids.addAll(createApplications(second, 2));
+
+        BulkApplicationStatusResponse response = jobApplicationService.updateApplicationStatuses(
+                request(ids, null, JobApplication.ApplicationStatus.ACCEPTED));
+
+        assertThat(response.getUpdatedCount()).isEqualTo(5);
+        verify(jobPostOwnershipService, times(1)).validateOwnership(eq(first), anyString());
+        verify(jobPostOwnershipService, times(1)).validateOwnership(eq(second), anyString());
+    }
+
+    @Test
+    void nonOwnerIsRejectedOnceAndNothingIsUpdated() {
+        Integer own = createJobPost(OWNER_ID);
+        Integer foreign = createJobPost("owner-2");
+        List<Integer> ids = new ArrayList<>(createApplications(own, 2));
+        ids.addAll(createApplications(foreign, 3));
+
+        assertThatThrownBy(() -> jobApplicationService.updateApplicationStatuses(
+                request(ids, null, JobApplication.ApplicationStatus.REJECTED)))
+                .hasMessage("Bu işlemi gerçekleştirme yetkiniz yok");
+
+        verify(jobPostOwnershipService, times(1)).validateOwnership(eq(foreign), anyString());
+        assertThat(statuses()).containsOnly(JobApplication.ApplicationStatus.PENDING);
+    }
+
+    @Test
+    void applicationIdsWithJobPostingIdOnlyTouchThatPost() {
+        Integer own = createJobPost(OWNER_ID);
+        Integer foreign = createJobPost("owner-2");
+        List<Integer> ownIds = createApplications(own, 2);
+        List<Integer> foreignIds = createApplications(foreign, 3);
+        List<Integer> ids = new ArrayList<>(ownIds);
+        ids.addAll(foreignIds);
+
+        BulkApplicationStatusResponse response = jobApplicationService.updateApplicationStatuses(
+                request(ids, own, JobApplication.ApplicationStatus.ACCEPTED));
+
+        assertThat(response.getUpdatedCount()).isEqualTo(2);
+        verify(jobPostOwnershipService, never()).validateOwnership(eq(foreign), anyString());
+        assertThat(jobApplicationRepository.findAllById(ownIds)).extracting(JobApplication::getApplicationStatus)
+                .containsOnly(JobApplication.ApplicationStatus.ACCEPTED);
+        assertThat(jobApplicationRepository.findAllById(foreignIds)).extracting(JobApplication::getApplicationStatus)
+                .containsOnly(JobApplication.ApplicationStatus.PENDING);
+    }
+
+    @Test
+    void applicationIdsOutsideTheGivenJobPostUpdateNothing() {
+        Integer own = createJobPost(OWNER_ID);
+        Integer other = createJobPost(OWNER_ID);
+        List<Integer> ids = createApplications(other, 2);
+
+        BulkApplicationStatusResponse response = jobApplicationService.updateApplicationStatuses(
+                request(ids, own, JobApplication.ApplicationStatus.REJECTED));
+
+        assertThat(response.getUpdatedCount()).isZero();
+        verify(jobPostOwnershipService, never()).validateOwnership(anyInt(), anyString());
+        assertThat(statuses()).containsOnly(JobApplication.ApplicationStatus.PENDING);
+    }
+
+    @Test
+    void returnedCountMatchesTheRowsUpdated() {
+        Integer jobPostId = createJobPost(OWNER_ID);
+        List<Integer> ids = createApplications(jobPostId, 4);
+        jobApplicationService.updateApplicationStatuses(
+                request(ids.subList(0, 1), null, JobApplication.ApplicationStatus.REJECTED));
+
+        BulkApplicationStatusRequest pendingOnly = request(null, jobPostId, JobApplication.ApplicationStatus.ACCEPTED);
+        pendingOnly.setCurrentStatus(JobApplication.ApplicationStatus.PENDING);
+        BulkApplicationStatusResponse byJobPost = jobApplicationService.updateApplicationStatuses(pendingOnly);
+
+        assertThat(byJobPost.getUpdatedCount()).isEqualTo(3);
+        assertThat(statuses()).containsExactlyInAnyOrder(JobApplication.ApplicationStatus.REJECTED,
+                JobApplication.ApplicationStatus.ACCEPTED, JobApplication.ApplicationStatus.ACCEPTED,
+                JobApplication.ApplicationStatus.ACCEPTED);
+
+        BulkApplicationStatusRequest acceptedOnly = request(ids, null, JobApplication.ApplicationStatus.REJECTED);
+        acceptedOnly.setCurrentStatus(JobApplication.ApplicationStatus.ACCEPTED);
+        acceptedOnly.setMaxYearsExperience(3.0);
+        BulkApplicationStatusResponse byIds = jobApplicationService.updateApplicationStatuses(acceptedOnly);
+
+        // Deneyimi 1 ve 2 yıl olan kabul edilmiş başvurular; 3 yıl üst sınır hariç olduğundan kalır
+        assertThat(byIds.getUpdatedCount()).isEqualTo(2);
+        assertThat(statuses()).filteredOn(JobApplication.ApplicationStatus.REJECTED::equals).hasSize(3);
+    }
+
+    private List<JobApplication.ApplicationStatus> statuses() {
+        return jobApplicationRepository.findAll().stream().map(JobApplication::getApplicationStatus).toList();
+    }
+
+    private static BulkApplicationStatusRequest request(List<Integer> applicationIds, Integer jobPostingId,
+                                                        JobApplication.ApplicationStatus status) {
+        BulkApplicationStatusRequest request = new BulkApplicationStatusRequest();
+        request.setApplicationIds(applicationIds);
+        request.setJobPostingId(jobPostingId);
+        request.setApplicationStatus(status);
+        request.setReviewedBy(1);
+        return request;
+    }
+
+    /**
+     * İlana deneyimi 0, 1, 2, ... yıl olan {@code count} bekleyen başvuru ekler ve ID'lerini döner
+     */
+    private List<Integer> createApplications(Integer jobPostId, int count) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            JobApplication application = new JobApplication();
+            application.setJobPostingId(jobPostId);
+            application.setApplicantName("Aday " + i);
+            application.setApplicantEmail("aday" + jobPostId + "-" + i + "@example.com");
+            application.setYearsExperience((double) i);
+            application.setApplicationStatus(JobApplication.ApplicationStatus.PENDING);
+            ids.add(jobApplicationRepository.save(application).getId());
+        }
+        return ids;
+    }
+
+    private Integer createJobPost(String ownerId) {
+        JobPost jobPost = new JobPost();
+        jobPost.setOwnerId(ownerId);
+        jobPost.setPostTitle("Yazılım Geliştirici");
+        jobPost.setDepartment("IT");
+        jobPost.setLocation("İstanbul");
+        jobPost.setJobType("FULL_TIME");
+        jobPost.setPublishDate(LocalDate.of(2024, 1, 1));
+        jobPost.setJobDefinition("İlan metni");
+        jobPost.setPostStatus(JobPost.PostStatus.OPEN);
+        return jobPostRepository.save(jobPost).getId();
+    }
+}
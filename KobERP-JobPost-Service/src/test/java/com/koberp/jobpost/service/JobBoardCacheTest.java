@@ -0,0 +1,142 @@
+package com.koberp.jobpost.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.koberp.jobpost.config.CacheConfig;
+import com.koberp.jobpost.dto.JobPostRequest;
+import com.koberp.jobpost.entity.JobPost;
+import com.koberp.jobpost.repository.JobPostRepository;
+import com.koberp.jobpost.util.AuthenticationUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * İlan panosu cache'inin kendi sınırlarıyla kaydedildiğini ve ilan yazımlarının onu temizlediğini
+ * uygulamanın cache yapılandırmasıyla doğrular.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.default_schema="
+})
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Import({JobPostService.class, JobPostOwnershipService.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobBoardCacheTest {
+
+    private static final String OWNER_ID = "owner-1";
+
+    @Autowired
+    private JobPostService jobPostService;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private AuthenticationUtil authenticationUtil;
+
+    @BeforeEach
+    void setUp() {
+        when(authenticationUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobPostRepository.deleteAll();
+        cacheManager.getCache(JobPostService.JOB_BOARD_CACHE).clear();
+    }
+
+    @Test
+    void jobBoardHasItsOwnBoundsAndOtherCachesDoNotShareThem() {
+        Cache<Object, Object> board = nativeCache(JobPostService.JOB_BOARD_CACHE);
+        Cache<Object, Object> token = nativeCache("auth0Token");
+
+        assertThat(board.policy().eviction().orElseThrow().getMaximum()).isEqualTo(1000);
+        assertThat(board.policy().expireAfterWrite().orElseThrow().getExpiresAfter()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(token.policy().eviction()).isEmpty();
+        assertThat(token.policy().expireAfterWrite()).isEmpty();
+    }
+
+    @Test
+    void createEvictsTheBoard() {
+        loadBoard();
+
+        jobPostService.createJobPost(request("Yeni İlan"));
+
+        assertThat(boardEntries()).isZero();
+        assertThat(loadBoard()).isEqualTo(1);
+    }
+
+    @Test
+    void updateEvictsTheBoard() {
+        Integer id = jobPostService.createJobPost(request("İlan")).getId();
+        loadBoard();
+
+        JobPostRequest closed = request("İlan");
+        closed.setPostStatus(JobPost.PostStatus.CLOSED);
+        jobPostService.updateJobPost(id, closed);
+
+        assertThat(boardEntries()).isZero();
+        assertThat(loadBoard()).isZero();
+    }
+
+    @Test
+    void deleteEvictsTheBoard() {
+        Integer id = jobPostService.createJobPost(request("İlan")).getId();
+        loadBoard();
+
+        jobPostService.deleteJobPost(id);
+
+        assertThat(boardEntries()).isZero();
+        assertThat(loadBoard()).isZero();
+    }
+
+    /**
+     * Panonun ilk sayfasını okur (cache'i doldurur) ve ilan sayısını döner
+     */
+    private long loadBoard() {
+        long total = jobPostService.getJobBoard(null, null, null, 0, 20).getTotalElements();
+        assertThat(boardEntries()).isEqualTo(1);
+        return total;
+    }
+
+    private long boardEntries() {
+        return nativeCache(JobPostService.JOB_BOARD_CACHE).estimatedSize();
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+
+    private static JobPostRequest request(String title) {
+        JobPostRequest request = new JobPostRequest();
+        request.setPostTitle(title);
+        request.setDepartment("IT");
+        request.setLocation("İstanbul");
+        request.setJobType("FULL_TIME");
+        request.setPublishDate(LocalDate.of(2024, 1, 1));
+        request.setJobDefinition("İlan metni");
+        request.setPostStatus(JobPost.PostStatus.OPEN);
+        return request;
+    }
+}
@@ -0,0 +1,110 @@
+package com.koberp.jobpost.service;
+
+import com.koberp.jobpost.dto.JobPostResponse;
+import com.koberp.jobpost.entity.JobPost;
+import com.koberp.jobpost.repository.JobPostRepository;
+import com.koberp.jobpost.util.AuthenticationUtil;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * İlan listelerinin çalıştırdığı SQL sayısı ilan sayısından bağımsız olmalı: başvuru sayısı ilan
+ * satırından okunur, ilan başına ek sorgu yapılmaz.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.default_schema=",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({JobPostService.class, JobPostOwnershipService.class})
+class JobPostServiceQueryCountTest {
+
+    private static final String OWNER_ID = "owner-1";
+
+    @Autowired
+    private JobPostService jobPostService;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private AuthenticationUtil authenticationUtil;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        when(authenticationUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllJobPostsRunsTheSameStatementsForAnyNumberOfPosts() {
+        assertConstantStatementCount(jobPostService::getAllJobPosts);
+    }
+
+    @Test
+    void getJobPostsByStatusRunsTheSameStatementsForAnyNumberOfPosts() {
+        assertConstantStatementCount(() -> jobPostService.getJobPostsByStatus(JobPost.PostStatus.OPEN));
+    }
+
+    @Test
+    void getMyJobPostsRunsTheSameStatementsForAnyNumberOfPosts() {
+        assertConstantStatementCount(jobPostService::getMyJobPosts);
+    }
+
+    private void assertConstantStatementCount(Supplier<List<JobPostResponse>> listing) {
+        long[] counts = new long[3];
+        int[] sizes = {1, 10, 100};
+        for (int i = 0; i < sizes.length; i++) {
+            createPostsUpTo(sizes[i]);
+
+            statistics.clear();
+            List<JobPostResponse> posts = listing.get();
+            counts[i] = statistics.getPrepareStatementCount();
+
+            assertThat(posts).hasSize(sizes[i]);
+            assertThat(posts).allSatisfy(post -> assertThat(post.getApplicationCount()).isEqualTo(post.getId() % 3L));
+        }
+        assertThat(counts[0]).isEqualTo(1);
+        assertThat(counts).containsOnly(counts[0]);
+    }
+
+    private void createPostsUpTo(int total) {
+        for (long existing = jobPostRepository.count(); existing < total; existing++) {
+            JobPost jobPost = new JobPost();
+            jobPost.setOwnerId(OWNER_ID);
+            jobPost.setPostTitle("Yazılım Geliştirici " + existing);
+            jobPost.setDepartment("IT");
+            jobPost.setLocation("İstanbul");
+            jobPost.setJobType("FULL_TIME");
+            jobPost.setPublishDate(LocalDate.of(2024, 1, 1));
+            jobPost.setJobDefinition("İlan metni");
+            jobPost.setPostStatus(JobPost.PostStatus.OPEN);
+            Integer id = jobPostRepository.save(jobPost).getId();
+            jobPostRepository.incrementApplicationCount(id, id % 3);
+        }
+        // Listeler veritabanından okunsun, birinci seviye cache'ten değil
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
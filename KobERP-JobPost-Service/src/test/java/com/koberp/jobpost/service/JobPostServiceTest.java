@@ -0,0 +1,124 @@
+package com.koberp.jobpost.service;
+
+import com.koberp.jobpost.dto.JobPostSummaryResponse;
+import com.koberp.jobpost.entity.JobPost;
+import com.koberp.jobpost.repository.JobPostRepository;
+import com.koberp.jobpost.util.AuthenticationUtil;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Silme sonrası sahiplik cache'inin yalnızca commit'te temizlendiğini ve durum değişikliğinin
+ * ilanın tamamını yüklemediğini gerçek transaction'larla doğrular.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.default_schema=",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({JobPostService.class, JobPostOwnershipService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobPostServiceTest {
+
+    private static final String OWNER_ID = "owner-1";
+
+    @Autowired
+    private JobPostService jobPostService;
+
+    @Autowired
+    private JobPostOwnershipService jobPostOwnershipService;
+
+    @Autowired
+    private JobPostRepository jobPostRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private AuthenticationUtil authenticationUtil;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        when(authenticationUtil.getCurrentUserId()).thenReturn(OWNER_ID);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobPostRepository.deleteAll();
+    }
+
+    @Test
+    void deleteEvictsTheOwnerOnlyAfterCommit() {
+        Integer id = createJobPost();
+        jobPostOwnershipService.validateOwnership(id, "yetki yok");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jobPostService.deleteJobPost(id);
+            status.setRollbackOnly();
+        });
+        statistics.clear();
+        jobPostOwnershipService.validateOwnership(id, "yetki yok");
+        assertThat(statistics.getPrepareStatementCount()).as("rolled back delete keeps the cached owner").isZero();
+
+        jobPostService.deleteJobPost(id);
+        statistics.clear();
+        assertThatThrownBy(() -> jobPostOwnershipService.validateOwnership(id, "yetki yok"))
+                .hasMessage("İş ilanı bulunamadı: " + id);
+        assertThat(statistics.getPrepareStatementCount()).as("committed delete evicts the owner").isEqualTo(1);
+    }
+
+    @Test
+    void updateJobPostStatusDoesNotLoadTheJobPost() {
+        Integer id = createJobPost();
+        jobPostOwnershipService.validateOwnership(id, "yetki yok");
+
+        statistics.clear();
+        JobPostSummaryResponse response = jobPostService.updateJobPostStatus(id, JobPost.PostStatus.CLOSED);
+
+        assertThat(response.getId()).isEqualTo(id);
+        assertThat(response.getPostStatus()).isEqualTo(JobPost.PostStatus.CLOSED);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Integer createJobPost() {
+        JobPost jobPost = new JobPost();
+        jobPost.setOwnerId(OWNER_ID);
+        jobPost.setPostTitle("Yazılım Geliştirici");
+        jobPost.setDepartment("IT");
+        jobPost.setLocation("İstanbul");
+        jobPost.setJobType("FULL_TIME");
+        jobPost.setPublishDate(LocalDate.of(2024, 1, 1));
+        jobPost.setJobDefinition("İlan metni");
+        jobPost.setPostStatus(JobPost.PostStatus.OPEN);
+        return jobPostRepository.save(jobPost).getId();
+    }
+}
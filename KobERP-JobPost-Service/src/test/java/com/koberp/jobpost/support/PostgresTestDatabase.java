@@ -0,0 +1,67 @@
+package com.koberp.jobpost.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Test JVM'i başına tek bir gömülü PostgreSQL; H2'nin çalıştıramadığı native SQL (UPDATE ... FROM,
+ * FOR UPDATE) için. Tablolar Hibernate tarafından oluşturulur. PostgreSQL root olarak
+ * başlamadığından bu testler orada atlanır.
+ */
+public final class PostgresTestDatabase {
+
+    private static EmbeddedPostgres postgres;
+
+    private PostgresTestDatabase() {
+    }
+
+    /**
+     * PostgreSQL'in başlayamadığı ortamda test sınıfını atlar. Spring testleri bunu {@code @BeforeAll}
+     * içinden çağırır; context yüklenirken düşen bir varsayım hata olarak raporlanır.
+     */
+    public static void assumeAvailable() {
+        assumeFalse("root".equals(System.getProperty("user.name")), "PostgreSQL root olarak çalışmaz");
+    }
+
+    /**
+     * Bir Spring test context'ini (ör. test veritabanı değişimi kapalı {@code @DataJpaTest}) gömülü
+     * sunucuya yönlendirir.
+     */
+    public static synchronized void register(DynamicPropertyRegistry registry) {
+        assumeAvailable();
+        if (postgres == null) {
+            postgres = start();
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "5");
+        registry.add("spring.datasource.hikari.minimum-idle", () -> "1");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.default_schema", () -> "");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    private static EmbeddedPostgres start() {
+        try {
+            EmbeddedPostgres started = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    started.close();
+                } catch (IOException ignored) {
+                    // JVM kapanıyor; veri dizini geçici
+                }
+            }));
+            return started;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}